@@ -1,4 +1,4 @@
-// Generated from /home/jamiel/Documents/projects/school/icss/src/main/antlr4/nl/han/ica/icss/parser/ICSS.g4 by ANTLR 4.7
+// Generated from src/main/antlr4/nl/han/ica/icss/parser/ICSS.g4 by ANTLR 4.7.1
 
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.tree.ErrorNode;
@@ -22,6 +22,18 @@ public class ICSSBaseListener implements ICSSListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitStylesheet(ICSSParser.StylesheetContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterImportStatement(ICSSParser.ImportStatementContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitImportStatement(ICSSParser.ImportStatementContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
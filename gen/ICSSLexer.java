@@ -1,4 +1,4 @@
-// Generated from /home/jamiel/Documents/projects/school/icss/src/main/antlr4/nl/han/ica/icss/parser/ICSS.g4 by ANTLR 4.7
+// Generated from src/main/antlr4/nl/han/ica/icss/parser/ICSS.g4 by ANTLR 4.7.1
 import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.Token;
@@ -10,15 +10,16 @@ import org.antlr.v4.runtime.misc.*;
 
 @SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
 public class ICSSLexer extends Lexer {
-	static { RuntimeMetaData.checkVersion("4.7", RuntimeMetaData.VERSION); }
+	static { RuntimeMetaData.checkVersion("4.7.1", RuntimeMetaData.VERSION); }
 
 	protected static final DFA[] _decisionToDFA;
 	protected static final PredictionContextCache _sharedContextCache =
 		new PredictionContextCache();
 	public static final int
 		OPEN_BRACE=1, CLOSE_BRACE=2, SEMICOLON=3, COLON=4, PLUS=5, MIN=6, MUL=7, 
-		ASSIGNMENT_OPERATOR=8, PIXELSIZE=9, PERCENTAGE=10, SCALAR=11, COLOR=12, 
-		ID_IDENT=13, CLASS_IDENT=14, LOWER_IDENT=15, CAPITAL_IDENT=16, WS=17;
+		ASSIGNMENT_OPERATOR=8, IMPORT=9, PIXELSIZE=10, PERCENTAGE=11, SCALAR=12, 
+		COLOR=13, ID_IDENT=14, CLASS_IDENT=15, STRING=16, LOWER_IDENT=17, CAPITAL_IDENT=18, 
+		WS=19;
 	public static String[] channelNames = {
 		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
 	};
@@ -29,17 +30,19 @@ public class ICSSLexer extends Lexer {
 
 	public static final String[] ruleNames = {
 		"OPEN_BRACE", "CLOSE_BRACE", "SEMICOLON", "COLON", "PLUS", "MIN", "MUL", 
-		"ASSIGNMENT_OPERATOR", "PIXELSIZE", "PERCENTAGE", "SCALAR", "COLOR", "ID_IDENT", 
-		"CLASS_IDENT", "LOWER_IDENT", "CAPITAL_IDENT", "WS"
+		"ASSIGNMENT_OPERATOR", "IMPORT", "PIXELSIZE", "PERCENTAGE", "SCALAR", 
+		"COLOR", "ID_IDENT", "CLASS_IDENT", "STRING", "LOWER_IDENT", "CAPITAL_IDENT", 
+		"WS"
 	};
 
 	private static final String[] _LITERAL_NAMES = {
-		null, "'{'", "'}'", "';'", "':'", "'+'", "'-'", "'*'", "':='"
+		null, "'{'", "'}'", "';'", "':'", "'+'", "'-'", "'*'", "':='", "'@import'"
 	};
 	private static final String[] _SYMBOLIC_NAMES = {
 		null, "OPEN_BRACE", "CLOSE_BRACE", "SEMICOLON", "COLON", "PLUS", "MIN", 
-		"MUL", "ASSIGNMENT_OPERATOR", "PIXELSIZE", "PERCENTAGE", "SCALAR", "COLOR", 
-		"ID_IDENT", "CLASS_IDENT", "LOWER_IDENT", "CAPITAL_IDENT", "WS"
+		"MUL", "ASSIGNMENT_OPERATOR", "IMPORT", "PIXELSIZE", "PERCENTAGE", "SCALAR", 
+		"COLOR", "ID_IDENT", "CLASS_IDENT", "STRING", "LOWER_IDENT", "CAPITAL_IDENT", 
+		"WS"
 	};
 	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
 
@@ -99,37 +102,43 @@ public class ICSSLexer extends Lexer {
 	public ATN getATN() { return _ATN; }
 
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\2\23s\b\1\4\2\t\2\4"+
-		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
-		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
-		"\3\2\3\2\3\3\3\3\3\4\3\4\3\5\3\5\3\6\3\6\3\7\3\7\3\b\3\b\3\t\3\t\3\t\3"+
-		"\n\6\n8\n\n\r\n\16\n9\3\n\3\n\3\n\3\13\6\13@\n\13\r\13\16\13A\3\13\3\13"+
-		"\3\f\6\fG\n\f\r\f\16\fH\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\16\3\16\6\16"+
-		"U\n\16\r\16\16\16V\3\17\3\17\6\17[\n\17\r\17\16\17\\\3\20\3\20\7\20a\n"+
-		"\20\f\20\16\20d\13\20\3\21\3\21\7\21h\n\21\f\21\16\21k\13\21\3\22\6\22"+
-		"n\n\22\r\22\16\22o\3\22\3\22\2\2\23\3\3\5\4\7\5\t\6\13\7\r\b\17\t\21\n"+
-		"\23\13\25\f\27\r\31\16\33\17\35\20\37\21!\22#\23\3\2\t\3\2\62;\4\2\62"+
-		";ch\5\2//\62;c|\3\2c|\3\2C\\\6\2\62;C\\aac|\5\2\13\f\17\17\"\"\2z\2\3"+
-		"\3\2\2\2\2\5\3\2\2\2\2\7\3\2\2\2\2\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2"+
-		"\2\17\3\2\2\2\2\21\3\2\2\2\2\23\3\2\2\2\2\25\3\2\2\2\2\27\3\2\2\2\2\31"+
-		"\3\2\2\2\2\33\3\2\2\2\2\35\3\2\2\2\2\37\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2"+
-		"\3%\3\2\2\2\5\'\3\2\2\2\7)\3\2\2\2\t+\3\2\2\2\13-\3\2\2\2\r/\3\2\2\2\17"+
-		"\61\3\2\2\2\21\63\3\2\2\2\23\67\3\2\2\2\25?\3\2\2\2\27F\3\2\2\2\31J\3"+
-		"\2\2\2\33R\3\2\2\2\35X\3\2\2\2\37^\3\2\2\2!e\3\2\2\2#m\3\2\2\2%&\7}\2"+
-		"\2&\4\3\2\2\2\'(\7\177\2\2(\6\3\2\2\2)*\7=\2\2*\b\3\2\2\2+,\7<\2\2,\n"+
-		"\3\2\2\2-.\7-\2\2.\f\3\2\2\2/\60\7/\2\2\60\16\3\2\2\2\61\62\7,\2\2\62"+
-		"\20\3\2\2\2\63\64\7<\2\2\64\65\7?\2\2\65\22\3\2\2\2\668\t\2\2\2\67\66"+
-		"\3\2\2\289\3\2\2\29\67\3\2\2\29:\3\2\2\2:;\3\2\2\2;<\7r\2\2<=\7z\2\2="+
-		"\24\3\2\2\2>@\t\2\2\2?>\3\2\2\2@A\3\2\2\2A?\3\2\2\2AB\3\2\2\2BC\3\2\2"+
-		"\2CD\7\'\2\2D\26\3\2\2\2EG\t\2\2\2FE\3\2\2\2GH\3\2\2\2HF\3\2\2\2HI\3\2"+
-		"\2\2I\30\3\2\2\2JK\7%\2\2KL\t\3\2\2LM\t\3\2\2MN\t\3\2\2NO\t\3\2\2OP\t"+
-		"\3\2\2PQ\t\3\2\2Q\32\3\2\2\2RT\7%\2\2SU\t\4\2\2TS\3\2\2\2UV\3\2\2\2VT"+
-		"\3\2\2\2VW\3\2\2\2W\34\3\2\2\2XZ\7\60\2\2Y[\t\4\2\2ZY\3\2\2\2[\\\3\2\2"+
-		"\2\\Z\3\2\2\2\\]\3\2\2\2]\36\3\2\2\2^b\t\5\2\2_a\t\4\2\2`_\3\2\2\2ad\3"+
-		"\2\2\2b`\3\2\2\2bc\3\2\2\2c \3\2\2\2db\3\2\2\2ei\t\6\2\2fh\t\7\2\2gf\3"+
-		"\2\2\2hk\3\2\2\2ig\3\2\2\2ij\3\2\2\2j\"\3\2\2\2ki\3\2\2\2ln\t\b\2\2ml"+
-		"\3\2\2\2no\3\2\2\2om\3\2\2\2op\3\2\2\2pq\3\2\2\2qr\b\22\2\2r$\3\2\2\2"+
-		"\13\29AHV\\bio\3\b\2\2";
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\2\25\u0088\b\1\4\2"+
+		"\t\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4"+
+		"\13\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22"+
+		"\t\22\4\23\t\23\4\24\t\24\3\2\3\2\3\3\3\3\3\4\3\4\3\5\3\5\3\6\3\6\3\7"+
+		"\3\7\3\b\3\b\3\t\3\t\3\t\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\13\6\13D\n"+
+		"\13\r\13\16\13E\3\13\3\13\3\13\3\f\6\fL\n\f\r\f\16\fM\3\f\3\f\3\r\6\r"+
+		"S\n\r\r\r\16\rT\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\17\3\17\6\17"+
+		"a\n\17\r\17\16\17b\3\20\3\20\6\20g\n\20\r\20\16\20h\3\21\3\21\7\21m\n"+
+		"\21\f\21\16\21p\13\21\3\21\3\21\3\22\3\22\7\22v\n\22\f\22\16\22y\13\22"+
+		"\3\23\3\23\7\23}\n\23\f\23\16\23\u0080\13\23\3\24\6\24\u0083\n\24\r\24"+
+		"\16\24\u0084\3\24\3\24\2\2\25\3\3\5\4\7\5\t\6\13\7\r\b\17\t\21\n\23\13"+
+		"\25\f\27\r\31\16\33\17\35\20\37\21!\22#\23%\24\'\25\3\2\n\3\2\62;\4\2"+
+		"\62;ch\5\2//\62;c|\5\2\f\f\17\17$$\3\2c|\3\2C\\\6\2\62;C\\aac|\5\2\13"+
+		"\f\17\17\"\"\2\u0090\2\3\3\2\2\2\2\5\3\2\2\2\2\7\3\2\2\2\2\t\3\2\2\2\2"+
+		"\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21\3\2\2\2\2\23\3\2\2\2\2\25\3"+
+		"\2\2\2\2\27\3\2\2\2\2\31\3\2\2\2\2\33\3\2\2\2\2\35\3\2\2\2\2\37\3\2\2"+
+		"\2\2!\3\2\2\2\2#\3\2\2\2\2%\3\2\2\2\2\'\3\2\2\2\3)\3\2\2\2\5+\3\2\2\2"+
+		"\7-\3\2\2\2\t/\3\2\2\2\13\61\3\2\2\2\r\63\3\2\2\2\17\65\3\2\2\2\21\67"+
+		"\3\2\2\2\23:\3\2\2\2\25C\3\2\2\2\27K\3\2\2\2\31R\3\2\2\2\33V\3\2\2\2\35"+
+		"^\3\2\2\2\37d\3\2\2\2!j\3\2\2\2#s\3\2\2\2%z\3\2\2\2\'\u0082\3\2\2\2)*"+
+		"\7}\2\2*\4\3\2\2\2+,\7\177\2\2,\6\3\2\2\2-.\7=\2\2.\b\3\2\2\2/\60\7<\2"+
+		"\2\60\n\3\2\2\2\61\62\7-\2\2\62\f\3\2\2\2\63\64\7/\2\2\64\16\3\2\2\2\65"+
+		"\66\7,\2\2\66\20\3\2\2\2\678\7<\2\289\7?\2\29\22\3\2\2\2:;\7B\2\2;<\7"+
+		"k\2\2<=\7o\2\2=>\7r\2\2>?\7q\2\2?@\7t\2\2@A\7v\2\2A\24\3\2\2\2BD\t\2\2"+
+		"\2CB\3\2\2\2DE\3\2\2\2EC\3\2\2\2EF\3\2\2\2FG\3\2\2\2GH\7r\2\2HI\7z\2\2"+
+		"I\26\3\2\2\2JL\t\2\2\2KJ\3\2\2\2LM\3\2\2\2MK\3\2\2\2MN\3\2\2\2NO\3\2\2"+
+		"\2OP\7\'\2\2P\30\3\2\2\2QS\t\2\2\2RQ\3\2\2\2ST\3\2\2\2TR\3\2\2\2TU\3\2"+
+		"\2\2U\32\3\2\2\2VW\7%\2\2WX\t\3\2\2XY\t\3\2\2YZ\t\3\2\2Z[\t\3\2\2[\\\t"+
+		"\3\2\2\\]\t\3\2\2]\34\3\2\2\2^`\7%\2\2_a\t\4\2\2`_\3\2\2\2ab\3\2\2\2b"+
+		"`\3\2\2\2bc\3\2\2\2c\36\3\2\2\2df\7\60\2\2eg\t\4\2\2fe\3\2\2\2gh\3\2\2"+
+		"\2hf\3\2\2\2hi\3\2\2\2i \3\2\2\2jn\7$\2\2km\n\5\2\2lk\3\2\2\2mp\3\2\2"+
+		"\2nl\3\2\2\2no\3\2\2\2oq\3\2\2\2pn\3\2\2\2qr\7$\2\2r\"\3\2\2\2sw\t\6\2"+
+		"\2tv\t\4\2\2ut\3\2\2\2vy\3\2\2\2wu\3\2\2\2wx\3\2\2\2x$\3\2\2\2yw\3\2\2"+
+		"\2z~\t\7\2\2{}\t\b\2\2|{\3\2\2\2}\u0080\3\2\2\2~|\3\2\2\2~\177\3\2\2\2"+
+		"\177&\3\2\2\2\u0080~\3\2\2\2\u0081\u0083\t\t\2\2\u0082\u0081\3\2\2\2\u0083"+
+		"\u0084\3\2\2\2\u0084\u0082\3\2\2\2\u0084\u0085\3\2\2\2\u0085\u0086\3\2"+
+		"\2\2\u0086\u0087\b\24\2\2\u0087(\3\2\2\2\f\2EMTbhnw~\u0084\3\b\2\2";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
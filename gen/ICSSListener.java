@@ -1,4 +1,4 @@
-// Generated from /home/jamiel/Documents/projects/school/icss/src/main/antlr4/nl/han/ica/icss/parser/ICSS.g4 by ANTLR 4.7
+// Generated from src/main/antlr4/nl/han/ica/icss/parser/ICSS.g4 by ANTLR 4.7.1
 import org.antlr.v4.runtime.tree.ParseTreeListener;
 
 /**
@@ -16,6 +16,16 @@ public interface ICSSListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitStylesheet(ICSSParser.StylesheetContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link ICSSParser#importStatement}.
+	 * @param ctx the parse tree
+	 */
+	void enterImportStatement(ICSSParser.ImportStatementContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ICSSParser#importStatement}.
+	 * @param ctx the parse tree
+	 */
+	void exitImportStatement(ICSSParser.ImportStatementContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link ICSSParser#stylerule}.
 	 * @param ctx the parse tree
@@ -1,4 +1,4 @@
-// Generated from /home/jamiel/Documents/projects/school/icss/src/main/antlr4/nl/han/ica/icss/parser/ICSS.g4 by ANTLR 4.7
+// Generated from src/main/antlr4/nl/han/ica/icss/parser/ICSS.g4 by ANTLR 4.7.1
 import org.antlr.v4.runtime.atn.*;
 import org.antlr.v4.runtime.dfa.DFA;
 import org.antlr.v4.runtime.*;
@@ -10,33 +10,35 @@ import java.util.ArrayList;
 
 @SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
 public class ICSSParser extends Parser {
-	static { RuntimeMetaData.checkVersion("4.7", RuntimeMetaData.VERSION); }
+	static { RuntimeMetaData.checkVersion("4.7.1", RuntimeMetaData.VERSION); }
 
 	protected static final DFA[] _decisionToDFA;
 	protected static final PredictionContextCache _sharedContextCache =
 		new PredictionContextCache();
 	public static final int
 		OPEN_BRACE=1, CLOSE_BRACE=2, SEMICOLON=3, COLON=4, PLUS=5, MIN=6, MUL=7, 
-		ASSIGNMENT_OPERATOR=8, PIXELSIZE=9, PERCENTAGE=10, SCALAR=11, COLOR=12, 
-		ID_IDENT=13, CLASS_IDENT=14, LOWER_IDENT=15, CAPITAL_IDENT=16, WS=17;
+		ASSIGNMENT_OPERATOR=8, IMPORT=9, PIXELSIZE=10, PERCENTAGE=11, SCALAR=12, 
+		COLOR=13, ID_IDENT=14, CLASS_IDENT=15, STRING=16, LOWER_IDENT=17, CAPITAL_IDENT=18, 
+		WS=19;
 	public static final int
-		RULE_stylesheet = 0, RULE_stylerule = 1, RULE_selector = 2, RULE_body = 3, 
-		RULE_decleration = 4, RULE_expression = 5, RULE_literal = 6, RULE_multiply = 7, 
-		RULE_operator = 8, RULE_variableAssignment = 9, RULE_variableName = 10, 
-		RULE_propertyName = 11;
+		RULE_stylesheet = 0, RULE_importStatement = 1, RULE_stylerule = 2, RULE_selector = 3, 
+		RULE_body = 4, RULE_decleration = 5, RULE_expression = 6, RULE_literal = 7, 
+		RULE_multiply = 8, RULE_operator = 9, RULE_variableAssignment = 10, RULE_variableName = 11, 
+		RULE_propertyName = 12;
 	public static final String[] ruleNames = {
-		"stylesheet", "stylerule", "selector", "body", "decleration", "expression", 
-		"literal", "multiply", "operator", "variableAssignment", "variableName", 
-		"propertyName"
+		"stylesheet", "importStatement", "stylerule", "selector", "body", "decleration", 
+		"expression", "literal", "multiply", "operator", "variableAssignment", 
+		"variableName", "propertyName"
 	};
 
 	private static final String[] _LITERAL_NAMES = {
-		null, "'{'", "'}'", "';'", "':'", "'+'", "'-'", "'*'", "':='"
+		null, "'{'", "'}'", "';'", "':'", "'+'", "'-'", "'*'", "':='", "'@import'"
 	};
 	private static final String[] _SYMBOLIC_NAMES = {
 		null, "OPEN_BRACE", "CLOSE_BRACE", "SEMICOLON", "COLON", "PLUS", "MIN", 
-		"MUL", "ASSIGNMENT_OPERATOR", "PIXELSIZE", "PERCENTAGE", "SCALAR", "COLOR", 
-		"ID_IDENT", "CLASS_IDENT", "LOWER_IDENT", "CAPITAL_IDENT", "WS"
+		"MUL", "ASSIGNMENT_OPERATOR", "IMPORT", "PIXELSIZE", "PERCENTAGE", "SCALAR", 
+		"COLOR", "ID_IDENT", "CLASS_IDENT", "STRING", "LOWER_IDENT", "CAPITAL_IDENT", 
+		"WS"
 	};
 	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
 
@@ -89,6 +91,12 @@ public class ICSSParser extends Parser {
 	}
 	public static class StylesheetContext extends ParserRuleContext {
 		public TerminalNode EOF() { return getToken(ICSSParser.EOF, 0); }
+		public List<ImportStatementContext> importStatement() {
+			return getRuleContexts(ImportStatementContext.class);
+		}
+		public ImportStatementContext importStatement(int i) {
+			return getRuleContext(ImportStatementContext.class,i);
+		}
 		public List<StyleruleContext> stylerule() {
 			return getRuleContexts(StyleruleContext.class);
 		}
@@ -121,21 +129,35 @@ public class ICSSParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(27);
+			setState(29);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==IMPORT) {
+				{
+				{
+				setState(26);
+				importStatement();
+				}
+				}
+				setState(31);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(35);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ID_IDENT) | (1L << CLASS_IDENT) | (1L << LOWER_IDENT) | (1L << CAPITAL_IDENT))) != 0)) {
 				{
 				{
-				setState(24);
+				setState(32);
 				stylerule();
 				}
 				}
-				setState(29);
+				setState(37);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(30);
+			setState(38);
 			match(EOF);
 			}
 		}
@@ -150,6 +172,54 @@ public class ICSSParser extends Parser {
 		return _localctx;
 	}
 
+	public static class ImportStatementContext extends ParserRuleContext {
+		public TerminalNode IMPORT() { return getToken(ICSSParser.IMPORT, 0); }
+		public TerminalNode STRING() { return getToken(ICSSParser.STRING, 0); }
+		public TerminalNode SEMICOLON() { return getToken(ICSSParser.SEMICOLON, 0); }
+		public ImportStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_importStatement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ICSSListener ) ((ICSSListener)listener).enterImportStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ICSSListener ) ((ICSSListener)listener).exitImportStatement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ICSSVisitor ) return ((ICSSVisitor<? extends T>)visitor).visitImportStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ImportStatementContext importStatement() throws RecognitionException {
+		ImportStatementContext _localctx = new ImportStatementContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_importStatement);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(40);
+			match(IMPORT);
+			setState(41);
+			match(STRING);
+			setState(42);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
 	public static class StyleruleContext extends ParserRuleContext {
 		public SelectorContext selector() {
 			return getRuleContext(SelectorContext.class,0);
@@ -183,9 +253,9 @@ public class ICSSParser extends Parser {
 
 	public final StyleruleContext stylerule() throws RecognitionException {
 		StyleruleContext _localctx = new StyleruleContext(_ctx, getState());
-		enterRule(_localctx, 2, RULE_stylerule);
+		enterRule(_localctx, 4, RULE_stylerule);
 		try {
-			setState(38);
+			setState(50);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case ID_IDENT:
@@ -193,20 +263,20 @@ public class ICSSParser extends Parser {
 			case LOWER_IDENT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(32);
+				setState(44);
 				selector();
-				setState(33);
+				setState(45);
 				match(OPEN_BRACE);
-				setState(34);
+				setState(46);
 				body();
-				setState(35);
+				setState(47);
 				match(CLOSE_BRACE);
 				}
 				break;
 			case CAPITAL_IDENT:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(37);
+				setState(49);
 				variableAssignment();
 				}
 				break;
@@ -250,12 +320,12 @@ public class ICSSParser extends Parser {
 
 	public final SelectorContext selector() throws RecognitionException {
 		SelectorContext _localctx = new SelectorContext(_ctx, getState());
-		enterRule(_localctx, 4, RULE_selector);
+		enterRule(_localctx, 6, RULE_selector);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(40);
+			setState(52);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ID_IDENT) | (1L << CLASS_IDENT) | (1L << LOWER_IDENT))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -306,22 +376,22 @@ public class ICSSParser extends Parser {
 
 	public final BodyContext body() throws RecognitionException {
 		BodyContext _localctx = new BodyContext(_ctx, getState());
-		enterRule(_localctx, 6, RULE_body);
+		enterRule(_localctx, 8, RULE_body);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(43); 
+			setState(55); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(42);
+				setState(54);
 				decleration();
 				}
 				}
-				setState(45); 
+				setState(57); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ID_IDENT) | (1L << CLASS_IDENT) | (1L << LOWER_IDENT) | (1L << CAPITAL_IDENT))) != 0) );
@@ -374,35 +444,35 @@ public class ICSSParser extends Parser {
 
 	public final DeclerationContext decleration() throws RecognitionException {
 		DeclerationContext _localctx = new DeclerationContext(_ctx, getState());
-		enterRule(_localctx, 8, RULE_decleration);
+		enterRule(_localctx, 10, RULE_decleration);
 		try {
-			setState(54);
+			setState(66);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,3,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,4,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(47);
+				setState(59);
 				propertyName();
-				setState(48);
+				setState(60);
 				match(COLON);
-				setState(49);
+				setState(61);
 				expression(0);
-				setState(50);
+				setState(62);
 				match(SEMICOLON);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(52);
+				setState(64);
 				stylerule();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(53);
+				setState(65);
 				variableAssignment();
 				}
 				break;
@@ -466,18 +536,18 @@ public class ICSSParser extends Parser {
 		int _parentState = getState();
 		ExpressionContext _localctx = new ExpressionContext(_ctx, _parentState);
 		ExpressionContext _prevctx = _localctx;
-		int _startState = 10;
-		enterRecursionRule(_localctx, 10, RULE_expression, _p);
+		int _startState = 12;
+		enterRecursionRule(_localctx, 12, RULE_expression, _p);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(59);
+			setState(71);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case CAPITAL_IDENT:
 				{
-				setState(57);
+				setState(69);
 				variableName();
 				}
 				break;
@@ -486,7 +556,7 @@ public class ICSSParser extends Parser {
 			case SCALAR:
 			case COLOR:
 				{
-				setState(58);
+				setState(70);
 				literal();
 				}
 				break;
@@ -494,26 +564,26 @@ public class ICSSParser extends Parser {
 				throw new NoViableAltException(this);
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(71);
+			setState(83);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,6,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,7,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(69);
+					setState(81);
 					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,5,_ctx) ) {
+					switch ( getInterpreter().adaptivePredict(_input,6,_ctx) ) {
 					case 1:
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(61);
+						setState(73);
 						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-						setState(62);
+						setState(74);
 						multiply();
-						setState(63);
+						setState(75);
 						expression(3);
 						}
 						break;
@@ -521,20 +591,20 @@ public class ICSSParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(65);
+						setState(77);
 						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-						setState(66);
+						setState(78);
 						operator();
-						setState(67);
+						setState(79);
 						expression(2);
 						}
 						break;
 					}
 					} 
 				}
-				setState(73);
+				setState(85);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,6,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,7,_ctx);
 			}
 			}
 		}
@@ -575,12 +645,12 @@ public class ICSSParser extends Parser {
 
 	public final LiteralContext literal() throws RecognitionException {
 		LiteralContext _localctx = new LiteralContext(_ctx, getState());
-		enterRule(_localctx, 12, RULE_literal);
+		enterRule(_localctx, 14, RULE_literal);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(74);
+			setState(86);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << PIXELSIZE) | (1L << PERCENTAGE) | (1L << SCALAR) | (1L << COLOR))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -626,11 +696,11 @@ public class ICSSParser extends Parser {
 
 	public final MultiplyContext multiply() throws RecognitionException {
 		MultiplyContext _localctx = new MultiplyContext(_ctx, getState());
-		enterRule(_localctx, 14, RULE_multiply);
+		enterRule(_localctx, 16, RULE_multiply);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(76);
+			setState(88);
 			match(MUL);
 			}
 		}
@@ -669,12 +739,12 @@ public class ICSSParser extends Parser {
 
 	public final OperatorContext operator() throws RecognitionException {
 		OperatorContext _localctx = new OperatorContext(_ctx, getState());
-		enterRule(_localctx, 16, RULE_operator);
+		enterRule(_localctx, 18, RULE_operator);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(78);
+			setState(90);
 			_la = _input.LA(1);
 			if ( !(_la==PLUS || _la==MIN) ) {
 			_errHandler.recoverInline(this);
@@ -727,17 +797,17 @@ public class ICSSParser extends Parser {
 
 	public final VariableAssignmentContext variableAssignment() throws RecognitionException {
 		VariableAssignmentContext _localctx = new VariableAssignmentContext(_ctx, getState());
-		enterRule(_localctx, 18, RULE_variableAssignment);
+		enterRule(_localctx, 20, RULE_variableAssignment);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(80);
+			setState(92);
 			variableName();
-			setState(81);
+			setState(93);
 			match(ASSIGNMENT_OPERATOR);
-			setState(82);
+			setState(94);
 			expression(0);
-			setState(83);
+			setState(95);
 			match(SEMICOLON);
 			}
 		}
@@ -775,11 +845,11 @@ public class ICSSParser extends Parser {
 
 	public final VariableNameContext variableName() throws RecognitionException {
 		VariableNameContext _localctx = new VariableNameContext(_ctx, getState());
-		enterRule(_localctx, 20, RULE_variableName);
+		enterRule(_localctx, 22, RULE_variableName);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(85);
+			setState(97);
 			match(CAPITAL_IDENT);
 			}
 		}
@@ -817,11 +887,11 @@ public class ICSSParser extends Parser {
 
 	public final PropertyNameContext propertyName() throws RecognitionException {
 		PropertyNameContext _localctx = new PropertyNameContext(_ctx, getState());
-		enterRule(_localctx, 22, RULE_propertyName);
+		enterRule(_localctx, 24, RULE_propertyName);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(87);
+			setState(99);
 			match(LOWER_IDENT);
 			}
 		}
@@ -838,7 +908,7 @@ public class ICSSParser extends Parser {
 
 	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
 		switch (ruleIndex) {
-		case 5:
+		case 6:
 			return expression_sempred((ExpressionContext)_localctx, predIndex);
 		}
 		return true;
@@ -854,28 +924,31 @@ public class ICSSParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3\23\\\4\2\t\2\4\3"+
-		"\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t\13"+
-		"\4\f\t\f\4\r\t\r\3\2\7\2\34\n\2\f\2\16\2\37\13\2\3\2\3\2\3\3\3\3\3\3\3"+
-		"\3\3\3\3\3\5\3)\n\3\3\4\3\4\3\5\6\5.\n\5\r\5\16\5/\3\6\3\6\3\6\3\6\3\6"+
-		"\3\6\3\6\5\69\n\6\3\7\3\7\3\7\5\7>\n\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7"+
-		"\7\7H\n\7\f\7\16\7K\13\7\3\b\3\b\3\t\3\t\3\n\3\n\3\13\3\13\3\13\3\13\3"+
-		"\13\3\f\3\f\3\r\3\r\3\r\2\3\f\16\2\4\6\b\n\f\16\20\22\24\26\30\2\5\3\2"+
-		"\17\21\3\2\13\16\3\2\7\b\2W\2\35\3\2\2\2\4(\3\2\2\2\6*\3\2\2\2\b-\3\2"+
-		"\2\2\n8\3\2\2\2\f=\3\2\2\2\16L\3\2\2\2\20N\3\2\2\2\22P\3\2\2\2\24R\3\2"+
-		"\2\2\26W\3\2\2\2\30Y\3\2\2\2\32\34\5\4\3\2\33\32\3\2\2\2\34\37\3\2\2\2"+
-		"\35\33\3\2\2\2\35\36\3\2\2\2\36 \3\2\2\2\37\35\3\2\2\2 !\7\2\2\3!\3\3"+
-		"\2\2\2\"#\5\6\4\2#$\7\3\2\2$%\5\b\5\2%&\7\4\2\2&)\3\2\2\2\')\5\24\13\2"+
-		"(\"\3\2\2\2(\'\3\2\2\2)\5\3\2\2\2*+\t\2\2\2+\7\3\2\2\2,.\5\n\6\2-,\3\2"+
-		"\2\2./\3\2\2\2/-\3\2\2\2/\60\3\2\2\2\60\t\3\2\2\2\61\62\5\30\r\2\62\63"+
-		"\7\6\2\2\63\64\5\f\7\2\64\65\7\5\2\2\659\3\2\2\2\669\5\4\3\2\679\5\24"+
-		"\13\28\61\3\2\2\28\66\3\2\2\28\67\3\2\2\29\13\3\2\2\2:;\b\7\1\2;>\5\26"+
-		"\f\2<>\5\16\b\2=:\3\2\2\2=<\3\2\2\2>I\3\2\2\2?@\f\4\2\2@A\5\20\t\2AB\5"+
-		"\f\7\5BH\3\2\2\2CD\f\3\2\2DE\5\22\n\2EF\5\f\7\4FH\3\2\2\2G?\3\2\2\2GC"+
-		"\3\2\2\2HK\3\2\2\2IG\3\2\2\2IJ\3\2\2\2J\r\3\2\2\2KI\3\2\2\2LM\t\3\2\2"+
-		"M\17\3\2\2\2NO\7\t\2\2O\21\3\2\2\2PQ\t\4\2\2Q\23\3\2\2\2RS\5\26\f\2ST"+
-		"\7\n\2\2TU\5\f\7\2UV\7\5\2\2V\25\3\2\2\2WX\7\22\2\2X\27\3\2\2\2YZ\7\21"+
-		"\2\2Z\31\3\2\2\2\t\35(/8=GI";
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3\25h\4\2\t\2\4\3\t"+
+		"\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t\13\4"+
+		"\f\t\f\4\r\t\r\4\16\t\16\3\2\7\2\36\n\2\f\2\16\2!\13\2\3\2\7\2$\n\2\f"+
+		"\2\16\2\'\13\2\3\2\3\2\3\3\3\3\3\3\3\3\3\4\3\4\3\4\3\4\3\4\3\4\5\4\65"+
+		"\n\4\3\5\3\5\3\6\6\6:\n\6\r\6\16\6;\3\7\3\7\3\7\3\7\3\7\3\7\3\7\5\7E\n"+
+		"\7\3\b\3\b\3\b\5\bJ\n\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\7\bT\n\b\f\b\16"+
+		"\bW\13\b\3\t\3\t\3\n\3\n\3\13\3\13\3\f\3\f\3\f\3\f\3\f\3\r\3\r\3\16\3"+
+		"\16\3\16\2\3\16\17\2\4\6\b\n\f\16\20\22\24\26\30\32\2\5\4\2\20\21\23\23"+
+		"\3\2\f\17\3\2\7\b\2c\2\37\3\2\2\2\4*\3\2\2\2\6\64\3\2\2\2\b\66\3\2\2\2"+
+		"\n9\3\2\2\2\fD\3\2\2\2\16I\3\2\2\2\20X\3\2\2\2\22Z\3\2\2\2\24\\\3\2\2"+
+		"\2\26^\3\2\2\2\30c\3\2\2\2\32e\3\2\2\2\34\36\5\4\3\2\35\34\3\2\2\2\36"+
+		"!\3\2\2\2\37\35\3\2\2\2\37 \3\2\2\2 %\3\2\2\2!\37\3\2\2\2\"$\5\6\4\2#"+
+		"\"\3\2\2\2$\'\3\2\2\2%#\3\2\2\2%&\3\2\2\2&(\3\2\2\2\'%\3\2\2\2()\7\2\2"+
+		"\3)\3\3\2\2\2*+\7\13\2\2+,\7\22\2\2,-\7\5\2\2-\5\3\2\2\2./\5\b\5\2/\60"+
+		"\7\3\2\2\60\61\5\n\6\2\61\62\7\4\2\2\62\65\3\2\2\2\63\65\5\26\f\2\64."+
+		"\3\2\2\2\64\63\3\2\2\2\65\7\3\2\2\2\66\67\t\2\2\2\67\t\3\2\2\28:\5\f\7"+
+		"\298\3\2\2\2:;\3\2\2\2;9\3\2\2\2;<\3\2\2\2<\13\3\2\2\2=>\5\32\16\2>?\7"+
+		"\6\2\2?@\5\16\b\2@A\7\5\2\2AE\3\2\2\2BE\5\6\4\2CE\5\26\f\2D=\3\2\2\2D"+
+		"B\3\2\2\2DC\3\2\2\2E\r\3\2\2\2FG\b\b\1\2GJ\5\30\r\2HJ\5\20\t\2IF\3\2\2"+
+		"\2IH\3\2\2\2JU\3\2\2\2KL\f\4\2\2LM\5\22\n\2MN\5\16\b\5NT\3\2\2\2OP\f\3"+
+		"\2\2PQ\5\24\13\2QR\5\16\b\4RT\3\2\2\2SK\3\2\2\2SO\3\2\2\2TW\3\2\2\2US"+
+		"\3\2\2\2UV\3\2\2\2V\17\3\2\2\2WU\3\2\2\2XY\t\3\2\2Y\21\3\2\2\2Z[\7\t\2"+
+		"\2[\23\3\2\2\2\\]\t\4\2\2]\25\3\2\2\2^_\5\30\r\2_`\7\n\2\2`a\5\16\b\2"+
+		"ab\7\5\2\2b\27\3\2\2\2cd\7\24\2\2d\31\3\2\2\2ef\7\23\2\2f\33\3\2\2\2\n"+
+		"\37%\64;DISU";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -0,0 +1,60 @@
+package nl.han.ica.icss.benchmark;
+
+import nl.han.ica.icss.ast.*;
+import nl.han.ica.icss.ast.literals.PixelLiteral;
+import nl.han.ica.icss.ast.operations.AddOperation;
+import nl.han.ica.icss.ast.selectors.ClassSelector;
+import nl.han.ica.icss.checker.Checker;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Compares checking a stylesheet with many top-level rules on one thread and on a fork-join pool.
+ */
+public class CheckBenchmark {
+
+    public static void main(String[] args) {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        for (int rules : new int[] {1_000, 10_000, 50_000}) {
+            AST sequential = ScopeBenchmark.resolved(wideStylesheet(rules));
+            AST parallel = ScopeBenchmark.resolved(wideStylesheet(rules));
+            new Checker().check(sequential);
+            new Checker().check(parallel, pool);
+            if (!sequential.getErrors().toString().equals(parallel.getErrors().toString())) {
+                throw new AssertionError("Parallel checking reported different errors");
+            }
+
+            Measure.time("check " + rules + " rules, sequential", 50,
+                    () -> ScopeBenchmark.resolved(wideStylesheet(rules)), ast -> new Checker().check(ast));
+            Measure.time("check " + rules + " rules, fork-join (" + pool.getParallelism() + ")", 50,
+                    () -> ScopeBenchmark.resolved(wideStylesheet(rules)), ast -> new Checker().check(ast, pool));
+        }
+    }
+
+    /*
+     Every tenth rule is preceded by a new global, and every hundredth rule uses a global that is only defined below it:
+     Width0 := 0px;
+     .rule0 { width: Width0 + 1px; }
+     ...
+     .rule100 { width: Width11 + 1px; }
+     */
+    static AST wideStylesheet(int rules) {
+        Stylesheet stylesheet = new Stylesheet();
+        for (int i = 0; i < rules; i++) {
+            if (i % 10 == 0) {
+                stylesheet.addChild(new VariableAssignment()
+                        .addChild(new VariableReference("Width" + i / 10))
+                        .addChild(new PixelLiteral(i)));
+            }
+            String used = i % 100 == 0 && i > 0 ? "Width" + (i / 10 + 1) : "Width" + i / 10;
+            Stylerule rule = new Stylerule();
+            rule.addChild(new ClassSelector(".rule" + i));
+            rule.addChild(new Declaration("width")
+                    .addChild(new AddOperation()
+                            .addChild(new VariableReference(used))
+                            .addChild(new PixelLiteral(1))));
+            stylesheet.addChild(rule);
+        }
+        return new AST(stylesheet);
+    }
+}
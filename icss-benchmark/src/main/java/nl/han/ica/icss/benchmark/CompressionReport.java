@@ -0,0 +1,180 @@
+package nl.han.ica.icss.benchmark;
+
+import nl.han.ica.icss.Pipeline;
+import nl.han.ica.icss.build.BatchCompiler;
+import nl.han.ica.icss.generator.GzipCopyChannel;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reports the size of the minified CSS and of its gzip copy, with and without canonical declaration order.
+ * The sizes are counted while the CSS is generated and compressed, nothing is written to disk.
+ *
+ * Usage: CompressionReport [file.icss | directory]... Without arguments, the stylesheets bundled with the compiler
+ * and a generated stylesheet that writes the same declarations in random orders are reported.
+ */
+public class CompressionReport {
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> corpus = new LinkedHashMap<>();
+        if (args.length == 0) {
+            for (String level : new String[] {"level0", "level1", "level2", "level3"}) {
+                corpus.put(level + ".icss", resource(level + ".icss"));
+            }
+            corpus.put("shuffled (2000 rules)", shuffledStylesheet(2000));
+        }
+        for (String arg : args) {
+            for (Path file : icssFiles(Paths.get(arg))) {
+                corpus.put(file.toString(), new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+            }
+        }
+
+        System.out.printf("%-40s %10s %10s %10s %10s %8s%n", "", "css", "gzip", "canonical", "gzip", "saved");
+        long[] totals = new long[4];
+        for (Map.Entry<String, String> source : corpus.entrySet()) {
+            long[] before = sizes(source.getValue(), false);
+            long[] after = sizes(source.getValue(), true);
+            if (before == null || after == null) {
+                System.out.printf("%-40s does not compile%n", source.getKey());
+                continue;
+            }
+            print(source.getKey(), before, after);
+            totals[0] += before[0];
+            totals[1] += before[1];
+            totals[2] += after[0];
+            totals[3] += after[1];
+        }
+        print("total", new long[] {totals[0], totals[1]}, new long[] {totals[2], totals[3]});
+    }
+
+    private static void print(String label, long[] before, long[] after) {
+        double saved = before[1] == 0 ? 0 : 100.0 * (before[1] - after[1]) / before[1];
+        System.out.printf("%-40s %10d %10d %10d %10d %7.1f%%%n", label, before[0], before[1], after[0], after[1], saved);
+    }
+
+    /**
+     * @return The number of bytes of the minified CSS and of its gzip copy, null when the source has errors.
+     */
+    private static long[] sizes(String source, boolean canonical) throws IOException {
+        Pipeline pipeline = new Pipeline();
+        pipeline.setMinified(true);
+        pipeline.setSortSelectors(true);
+        pipeline.setCanonical(canonical);
+        pipeline.parseString(source);
+        if (!pipeline.getErrors().isEmpty() || !pipeline.check() || !pipeline.transform()) {
+            return null;
+        }
+        CountingChannel css = new CountingChannel();
+        CountingStream compressed = new CountingStream();
+        try (GzipCopyChannel channel = new GzipCopyChannel(css, compressed, 9)) {
+            pipeline.generate(channel);
+        }
+        return new long[] {css.count, compressed.count};
+    }
+
+    private static List<Path> icssFiles(Path path) throws IOException {
+        if (!Files.isDirectory(path)) {
+            return Collections.singletonList(path);
+        }
+        try (Stream<Path> files = Files.walk(path)) {
+            return files.filter(BatchCompiler::isIcssFile).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static String resource(String name) throws IOException {
+        try (InputStream in = Pipeline.class.getClassLoader().getResourceAsStream(name)) {
+            byte[] buffer = new byte[4096];
+            StringBuilder text = new StringBuilder();
+            for (int read; (read = in.read(buffer)) != -1; ) {
+                text.append(new String(buffer, 0, read, StandardCharsets.UTF_8));
+            }
+            return text.toString();
+        }
+    }
+
+    /*
+     Rules that pick a few declarations from the same small set, in a random order, as hand-written stylesheets do:
+     .rule0 { color: #336699; margin: 4px; width: 50%; }
+     .rule1 { width: 50%; color: #336699; padding: 8px; }
+     ...
+     */
+    static String shuffledStylesheet(int rules) {
+        String[] declarations = {"color: #336699", "background-color: #ffffff", "width: 50%", "height: 20px",
+                "margin: 4px", "padding: 8px", "border-width: 1px", "border-color: #cccccc", "font-size: 14px",
+                "line-height: 1"};
+        Random random = new Random(42);
+        StringBuilder icss = new StringBuilder();
+        for (int i = 0; i < rules; i++) {
+            List<String> picked = new ArrayList<>();
+            for (String declaration : declarations) {
+                if (random.nextInt(3) == 0) {
+                    picked.add(declaration);
+                }
+            }
+            if (picked.isEmpty()) {
+                //ICSS has no empty rules
+                picked.add(declarations[random.nextInt(declarations.length)]);
+            }
+            Collections.shuffle(picked, random);
+            icss.append(".rule").append(i).append(" {");
+            for (String declaration : picked) {
+                icss.append(' ').append(declaration).append(';');
+            }
+            icss.append(" }\n");
+        }
+        return icss.toString();
+    }
+
+    //Counts the bytes of the CSS and drops them
+    private static class CountingChannel implements WritableByteChannel {
+        long count;
+
+        @Override
+        public int write(ByteBuffer source) {
+            int written = source.remaining();
+            ((Buffer) source).position(source.limit());
+            count += written;
+            return written;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static class CountingStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            count += length;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package nl.han.ica.icss.benchmark;
+
+import nl.han.ica.icss.ast.*;
+import nl.han.ica.icss.ast.literals.PixelLiteral;
+import nl.han.ica.icss.ast.literals.ScalarLiteral;
+import nl.han.ica.icss.ast.operations.AddOperation;
+import nl.han.ica.icss.ast.operations.MultiplyOperation;
+import nl.han.ica.icss.ast.operations.SubtractOperation;
+import nl.han.ica.icss.ast.selectors.ClassSelector;
+import nl.han.ica.icss.transforms.CompiledStylesheet;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Compares evaluating expressions by walking the trees with running a compiled stylesheet,
+ * and evaluating global variables in order with evaluating them by dependency level.
+ */
+public class EvalBenchmark {
+
+    public static void main(String[] args) {
+        for (int terms : new int[] {2, 8, 32}) {
+            AST walked = ScopeBenchmark.resolved(arithmeticStylesheet(1000, terms));
+            AST compiled = ScopeBenchmark.resolved(arithmeticStylesheet(1000, terms));
+            new TreeWalkingEvaluator().apply(walked);
+            CompiledStylesheet.compile(compiled).evaluate();
+            if (!walked.equals(compiled)) {
+                throw new AssertionError("The compiled stylesheet evaluated to different values");
+            }
+
+            Measure.time("tree walking, 1000 rules, " + terms + " terms", 200,
+                    () -> ScopeBenchmark.resolved(arithmeticStylesheet(1000, terms)),
+                    ast -> new TreeWalkingEvaluator().apply(ast));
+            Measure.time("compile and evaluate, 1000 rules, " + terms + " terms", 200,
+                    () -> ScopeBenchmark.resolved(arithmeticStylesheet(1000, terms)),
+                    ast -> CompiledStylesheet.compile(ast).evaluate());
+            CompiledStylesheet program = CompiledStylesheet.compile(
+                    ScopeBenchmark.resolved(arithmeticStylesheet(1000, terms)));
+            Measure.time("evaluate compiled, 1000 rules, " + terms + " terms, "
+                    + program.getSavedEvaluations() + " operations reused", 200,
+                    () -> program, CompiledStylesheet::evaluate);
+        }
+
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        for (int variables : new int[] {1_000, 10_000, 100_000}) {
+            AST sequential = ScopeBenchmark.resolved(themeStylesheet(variables));
+            AST parallel = ScopeBenchmark.resolved(themeStylesheet(variables));
+            CompiledStylesheet.compile(sequential).evaluate();
+            CompiledStylesheet theme = CompiledStylesheet.compile(parallel);
+            theme.evaluate(pool);
+            if (!sequential.equals(parallel)) {
+                throw new AssertionError("Evaluating the globals by level gave different values");
+            }
+
+            Measure.time("theme, " + variables + " globals, in order", 50, () -> theme, CompiledStylesheet::evaluate);
+            Measure.time("theme, " + variables + " globals, " + theme.getGlobalLevelCount() + " levels in parallel ("
+                    + pool.getParallelism() + ")", 50, () -> theme, program -> program.evaluate(pool));
+        }
+    }
+
+    /*
+     Every global is derived from the one at half its index, so the globals form a wide tree of dependencies:
+     Color0 := 1px;
+     Color1 := Color0 * 2 + 1px;
+     Color2 := Color1 * 2 + 1px;
+     Color3 := Color1 * 2 + 1px;
+     ...
+     */
+    static AST themeStylesheet(int variables) {
+        Stylesheet stylesheet = new Stylesheet();
+        stylesheet.addChild(new VariableAssignment()
+                .addChild(new VariableReference("Color0"))
+                .addChild(new PixelLiteral(1)));
+        for (int i = 1; i < variables; i++) {
+            stylesheet.addChild(new VariableAssignment()
+                    .addChild(new VariableReference("Color" + i))
+                    .addChild(new AddOperation()
+                            .addChild(new MultiplyOperation()
+                                    .addChild(new VariableReference("Color" + i / 2))
+                                    .addChild(new ScalarLiteral(2)))
+                            .addChild(new PixelLiteral(1))));
+        }
+        return new AST(stylesheet);
+    }
+
+    /*
+     Base := 4px;
+     .rule0 { width: Base * 2 + 1px - Base * 2 + 1px ...; }
+     */
+    static AST arithmeticStylesheet(int rules, int terms) {
+        Stylesheet stylesheet = new Stylesheet();
+        stylesheet.addChild(new VariableAssignment()
+                .addChild(new VariableReference("Base"))
+                .addChild(new PixelLiteral(4)));
+        for (int i = 0; i < rules; i++) {
+            Expression expression = new PixelLiteral(i);
+            for (int term = 0; term < terms; term++) {
+                Expression product = (Expression) new MultiplyOperation()
+                        .addChild(new VariableReference("Base"))
+                        .addChild(new ScalarLiteral(term));
+                Operation operation = term % 2 == 0 ? new AddOperation() : new SubtractOperation();
+                expression = (Expression) operation.addChild(expression).addChild(product);
+            }
+            Stylerule rule = new Stylerule();
+            rule.addChild(new ClassSelector(".rule" + i));
+            rule.addChild(new Declaration("width").addChild(expression));
+            stylesheet.addChild(rule);
+        }
+        return new AST(stylesheet);
+    }
+}
@@ -0,0 +1,136 @@
+package nl.han.ica.icss.benchmark;
+
+import nl.han.ica.icss.ast.*;
+import nl.han.ica.icss.ast.literals.ColorLiteral;
+import nl.han.ica.icss.ast.literals.PercentageLiteral;
+import nl.han.ica.icss.ast.literals.PixelLiteral;
+import nl.han.ica.icss.ast.selectors.ClassSelector;
+import nl.han.ica.icss.generator.Generator;
+
+import com.sun.management.ThreadMXBean;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Compares generating the CSS of a large flat stylesheet on one thread and in chunks on a fork-join pool,
+ * and the memory allocated per MB of output by the ways of writing the CSS to a channel.
+ */
+public class GenerateBenchmark {
+
+    public static void main(String[] args) {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        for (int rules : new int[] {1_000, 10_000, 100_000}) {
+            AST ast = flatStylesheet(rules);
+            String sequential = new Generator().generate(ast);
+            if (!sequential.equals(generate(ast, pool))) {
+                throw new AssertionError("Generating in parallel gave different CSS");
+            }
+
+            Measure.time("generate " + rules + " rules, sequential", 50,
+                    () -> ast, flat -> new Generator().generate(flat));
+            Measure.time("generate " + rules + " rules, chunks on fork-join (" + pool.getParallelism() + ")", 50,
+                    () -> ast, flat -> generate(flat, pool));
+        }
+
+        //The outputs are measured one after the other, so the later ones run with the generator's calls to the
+        //output compiled for several types of Appendable. Their times are only comparable with that in mind.
+        AST ast = flatStylesheet(100_000);
+        double megabytes = new Generator().generate(ast).getBytes(StandardCharsets.UTF_8).length / 1e6;
+        allocations("String, then encoded", megabytes, () -> {
+            ByteBuffer bytes = ByteBuffer.wrap(new Generator().generate(ast).getBytes(StandardCharsets.UTF_8));
+            DISCARD.write(bytes);
+        });
+        allocations("Writer on the channel", megabytes, () -> {
+            Writer writer = Channels.newWriter(DISCARD, StandardCharsets.UTF_8.newEncoder(), -1);
+            new Generator().generate(ast, writer);
+            writer.flush();
+        });
+        allocations("UTF-8 into pooled buffers", megabytes, () -> new Generator().generate(ast, DISCARD));
+    }
+
+    private interface Output {
+        void write() throws IOException;
+    }
+
+    private static void allocations(String label, double megabytes, Output output) {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        Measure.time(label, 50, () -> output, GenerateBenchmark::write);
+        long before = threads.getThreadAllocatedBytes(thread);
+        write(output);
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+        System.out.printf("%-50s %12.1f KB allocated per MB%n", label, allocated / 1024.0 / megabytes);
+    }
+
+    private static void write(Output output) {
+        try {
+            output.write();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    //Accepts and drops everything, so only generating and encoding is measured
+    private static final WritableByteChannel DISCARD = new WritableByteChannel() {
+        @Override
+        public int write(ByteBuffer source) {
+            int written = source.remaining();
+            ((Buffer) source).position(source.limit());
+            return written;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    private static String generate(AST ast, ForkJoinPool pool) {
+        StringBuilder css = new StringBuilder();
+        try {
+            new Generator().generate(ast, css, pool);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return css.toString();
+    }
+
+    /*
+     A transformed stylesheet, preceded by a global that is not part of the output:
+     Width := 0px;
+     .rule0 {
+       width: 0px;
+       height: 0%;
+       color: #000000;
+     }
+     ...
+     */
+    static AST flatStylesheet(int rules) {
+        Stylesheet stylesheet = new Stylesheet();
+        stylesheet.addChild(new VariableAssignment()
+                .addChild(new VariableReference("Width"))
+                .addChild(new PixelLiteral(0)));
+        for (int i = 0; i < rules; i++) {
+            Stylerule rule = new Stylerule();
+            rule.addChild(new ClassSelector(".rule" + i));
+            rule.addChild(new Declaration("width").addChild(new PixelLiteral(i)));
+            rule.addChild(new Declaration("height").addChild(new PercentageLiteral(i % 100)));
+            rule.addChild(new Declaration("color").addChild(new ColorLiteral(String.format("#%06x", i))));
+            stylesheet.addChild(rule);
+        }
+        return new AST(stylesheet);
+    }
+}
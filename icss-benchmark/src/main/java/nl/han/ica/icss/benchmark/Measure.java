@@ -0,0 +1,36 @@
+package nl.han.ica.icss.benchmark;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A small timing harness: warms up, then reports the average time per run.
+ */
+public class Measure {
+
+    private static volatile Object sink;
+
+    private Measure() { }
+
+    /**
+     * @param setup Creates fresh input for every run, this is not timed.
+     * @param run The code being measured.
+     * @return The average time per run in microseconds.
+     */
+    public static <T> double time(String label, int iterations, Supplier<T> setup, Consumer<T> run) {
+        for (int i = 0; i < Math.max(10, iterations / 5); i++) {
+            run.accept(setup.get());
+        }
+        long total = 0;
+        for (int i = 0; i < iterations; i++) {
+            T input = setup.get();
+            long start = System.nanoTime();
+            run.accept(input);
+            total += System.nanoTime() - start;
+            sink = input;
+        }
+        double micros = total / 1000.0 / iterations;
+        System.out.printf("%-50s %12.1f us/op%n", label, micros);
+        return micros;
+    }
+}
@@ -0,0 +1,97 @@
+package nl.han.ica.icss.benchmark;
+
+import nl.han.ica.icss.ast.*;
+import nl.han.ica.icss.ast.literals.PixelLiteral;
+import nl.han.ica.icss.ast.operations.AddOperation;
+import nl.han.ica.icss.ast.selectors.ClassSelector;
+import nl.han.ica.icss.checker.Checker;
+import nl.han.ica.icss.scope.Resolver;
+import nl.han.ica.icss.scope.SymbolTable;
+import nl.han.ica.icss.transforms.EvalExpressions;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+
+/**
+ * Measures variable resolution in deeply nested rules.
+ *
+ * Every level of nesting defines a variable and uses it together with a global one, so with the
+ * old list of scope maps each reference cost time proportional to the depth.
+ */
+public class ScopeBenchmark {
+
+    public static void main(String[] args) {
+        for (int depth : new int[] {10, 100, 1000}) {
+            Measure.time("resolve nested stylesheet, depth " + depth, 200,
+                    () -> nestedStylesheet(depth), ast -> new Resolver().resolve(ast));
+            Measure.time("check nested stylesheet, depth " + depth, 200,
+                    () -> resolved(nestedStylesheet(depth)), ast -> new Checker().check(ast));
+            Measure.time("evaluate nested stylesheet, depth " + depth, 200,
+                    () -> resolved(nestedStylesheet(depth)), ast -> new EvalExpressions().apply(ast));
+        }
+
+        //The lookup strategies on their own, resolving a global variable from the innermost scope
+        for (int depth : new int[] {10, 100, 1000}) {
+            LinkedList<HashMap<String, Integer>> scopeList = new LinkedList<>();
+            SymbolTable<Integer> symbolTable = new SymbolTable<>();
+            for (int i = 0; i < depth; i++) {
+                HashMap<String, Integer> scope = new HashMap<>();
+                scope.put("Local" + i, i);
+                scopeList.add(scope);
+                symbolTable.pushScope();
+                symbolTable.define("Local" + i, i);
+            }
+            scopeList.getFirst().put("Global", -1);
+            symbolTable.define("Global", -1);
+
+            Measure.time("10k lookups, list of scope maps, depth " + depth, 200, () -> scopeList, scopes -> {
+                int found = 0;
+                for (int n = 0; n < 10_000; n++) {
+                    for (HashMap<String, Integer> map : scopes) {
+                        if (map.containsKey("Global")) {
+                            found = map.get("Global");
+                        }
+                    }
+                }
+                if (found != -1) throw new AssertionError();
+            });
+            Measure.time("10k lookups, symbol table, depth " + depth, 200, () -> symbolTable, table -> {
+                for (int n = 0; n < 10_000; n++) {
+                    if (table.lookup("Global") != -1) throw new AssertionError();
+                }
+            });
+        }
+    }
+
+    static AST resolved(AST ast) {
+        new Resolver().resolve(ast);
+        return ast;
+    }
+
+    /*
+     Global := 1px;
+     .level0 { Local0 := 0px; width: Global + Local0; .level1 { Local1 := 1px; width: Global + Local1; ... } }
+     */
+    static AST nestedStylesheet(int depth) {
+        Stylesheet stylesheet = new Stylesheet();
+        stylesheet.addChild(new VariableAssignment()
+                .addChild(new VariableReference("Global"))
+                .addChild(new PixelLiteral(1)));
+
+        ASTNode parent = stylesheet;
+        for (int i = 0; i < depth; i++) {
+            Stylerule rule = new Stylerule();
+            rule.addChild(new ClassSelector(".level" + i));
+            rule.addChild(new VariableAssignment()
+                    .addChild(new VariableReference("Local" + i))
+                    .addChild(new PixelLiteral(i)));
+            rule.addChild(new Declaration("width")
+                    .addChild(new AddOperation()
+                            .addChild(new VariableReference("Global"))
+                            .addChild(new VariableReference("Local" + i))));
+            parent.addChild(rule);
+            parent = rule;
+        }
+        return new AST(stylesheet);
+    }
+}
@@ -1,4 +1,4 @@
-package nl.han.ica.icss.transforms;
+package nl.han.ica.icss.benchmark;
 
 import nl.han.ica.icss.ast.*;
 import nl.han.ica.icss.ast.literals.PercentageLiteral;
@@ -7,28 +7,18 @@ import nl.han.ica.icss.ast.literals.ScalarLiteral;
 import nl.han.ica.icss.ast.operations.AddOperation;
 import nl.han.ica.icss.ast.operations.SubtractOperation;
 
-import java.util.HashMap;
-import java.util.LinkedList;
+/**
+ * The evaluator EvalExpressions used before expressions were compiled, kept as a baseline for the benchmarks.
+ * It walks every expression tree and creates a literal for every operation.
+ */
+public class TreeWalkingEvaluator {
 
-public class EvalExpressions implements Transform {
-
-    private LinkedList<HashMap<String, Literal>> variableValues;
-
-    public EvalExpressions() {
-        variableValues = new LinkedList<>();
-    }
-
-    @Override
     public void apply(AST ast) {
-        variableValues = new LinkedList<>();
-        variableValues.add(new HashMap<>());
         iterateThroughAST(ast.root);
     }
 
     private void iterateThroughAST(ASTNode node) {
-        if (node instanceof Stylerule && ((Stylerule)node).selectors.size() >= 1) {
-            variableValues.add(new HashMap<>());
-        } else if (node instanceof Declaration) {
+        if (node instanceof Declaration) {
             calculateDeclaration((Declaration)node);
         } else if (node instanceof VariableAssignment) {
             calculateVariableAssignment((VariableAssignment)node);
@@ -37,10 +27,6 @@ public class EvalExpressions implements Transform {
         for (ASTNode child : node.getChildren()) {
             iterateThroughAST(child);
         }
-
-        if (node instanceof Stylerule && ((Stylerule)node).selectors.size() >= 1) {
-            variableValues.removeLast();
-        }
     }
 
     private void calculateDeclaration(Declaration declaration) {
@@ -48,11 +34,7 @@ public class EvalExpressions implements Transform {
     }
 
     private void calculateVariableAssignment(VariableAssignment assignment) {
-        String variableName = assignment.name.name;
-        Literal value = calculateExpression(assignment.expression);
-        HashMap<String, Literal> currentBlock = variableValues.getLast();
-        currentBlock.put(variableName, value);
-        assignment.expression = value;
+        assignment.expression = calculateExpression(assignment.expression);
     }
 
     private Literal calculateExpression(Expression expression) {
@@ -61,15 +43,9 @@ public class EvalExpressions implements Transform {
         } else if (expression instanceof Literal) {
             return (Literal)expression;
         } else {
+            //Assignments are evaluated before their references, so this is the value of the variable
             VariableReference reference = (VariableReference)expression;
-            Literal value = null;
-            for (HashMap<String, Literal> map : variableValues) {
-                if (map.containsKey(reference.name)) {
-                    value = map.get(reference.name);
-                }
-            }
-
-            return value;
+            return (Literal)reference.declaration.expression;
         }
     }
 
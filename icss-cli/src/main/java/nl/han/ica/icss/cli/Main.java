@@ -0,0 +1,122 @@
+package nl.han.ica.icss.cli;
+
+import nl.han.ica.icss.build.BatchCompiler;
+import nl.han.ica.icss.build.CompileResult;
+import nl.han.ica.icss.server.CompileServer;
+import nl.han.ica.icss.watch.WatchCompiler;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Deflater;
+
+/**
+ * Command line entry point: compile files once, watch directories or run the compile server.
+ */
+public class Main {
+
+    private static final String usage = "Usage:\n"
+            + "  icss compile <file.icss>... [-o <output directory>] [--minify] [--canonical]\n"
+            + "      [--custom-properties] [--remove-overridden] [--merge-rules]\n"
+            + "      [--gzip[=<level>]]\n"
+            + "  icss watch <directory>... [-o <output directory>]\n"
+            + "  icss serve [port] [workers] [import directory]";
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length == 0) {
+            exit(usage);
+        }
+        String[] rest = Arrays.copyOfRange(args, 1, args.length);
+        switch (args[0]) {
+            case "compile":
+                compile(rest);
+                break;
+            case "watch":
+                WatchCompiler.main(rest);
+                break;
+            case "serve":
+                CompileServer.main(rest);
+                break;
+            default:
+                exit(usage);
+        }
+    }
+
+    private static void compile(String[] args) {
+        List<Path> sources = new ArrayList<>();
+        Path output = null;
+        boolean minified = false;
+        boolean canonical = false;
+        boolean customProperties = false;
+        boolean removeOverridden = false;
+        boolean mergeRules = false;
+        Integer gzipLevel = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-o") && i + 1 < args.length) {
+                output = Paths.get(args[++i]);
+            } else if (args[i].equals("--minify")) {
+                minified = true;
+            } else if (args[i].equals("--canonical")) {
+                canonical = true;
+            } else if (args[i].equals("--custom-properties")) {
+                customProperties = true;
+            } else if (args[i].equals("--remove-overridden")) {
+                removeOverridden = true;
+            } else if (args[i].equals("--merge-rules")) {
+                mergeRules = true;
+            } else if (args[i].equals("--gzip")) {
+                gzipLevel = Deflater.BEST_COMPRESSION;
+            } else if (args[i].startsWith("--gzip=")) {
+                if (!args[i].matches("--gzip=[1-9]")) {
+                    exit(usage);
+                }
+                gzipLevel = Integer.parseInt(args[i].substring("--gzip=".length()));
+            } else {
+                sources.add(Paths.get(args[i]).toAbsolutePath().normalize());
+            }
+        }
+        if (sources.isEmpty()) {
+            exit(usage);
+        }
+
+        Path outputRoot = output;
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        List<CompileResult> results;
+        try {
+            BatchCompiler compiler = new BatchCompiler(executor);
+            compiler.setMinified(minified);
+            compiler.setCanonical(canonical);
+            compiler.setCustomProperties(customProperties);
+            compiler.setRemoveOverridden(removeOverridden);
+            compiler.setMergeRules(mergeRules);
+            if (gzipLevel != null) {
+                compiler.setGzip(true);
+                compiler.setGzipLevel(gzipLevel);
+            }
+            results = compiler
+                    .compile(sources, source -> BatchCompiler.cssPathFor(source.getParent(), outputRoot, source))
+                    .join();
+        } finally {
+            executor.shutdown();
+        }
+
+        boolean failed = false;
+        for (CompileResult result : results) {
+            (result.isSuccess() ? System.out : System.err).println(result);
+            failed |= !result.isSuccess();
+        }
+        if (failed) {
+            System.exit(1);
+        }
+    }
+
+    private static void exit(String message) {
+        System.err.println(message);
+        System.exit(1);
+    }
+}
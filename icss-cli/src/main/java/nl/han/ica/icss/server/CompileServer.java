@@ -0,0 +1,369 @@
+package nl.han.ica.icss.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import nl.han.ica.icss.Pipeline;
+import nl.han.ica.icss.ast.ASTNode;
+import nl.han.ica.icss.ast.Import;
+import nl.han.ica.icss.build.ContentHash;
+import nl.han.ica.icss.modules.ModuleCache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A long-lived local HTTP service that compiles ICSS to CSS.
+ *
+ * POST the ICSS source to /compile and the response is a JSON object with the generated css
+ * and the list of errors. GET /metrics returns counters in plain text.
+ *
+ * Sources can only import files from the import directory, see {@link #setImportRoot(Path)}.
+ */
+public class CompileServer {
+
+    public static final int DEFAULT_PORT = 8089;
+
+    private final HttpServer server;
+    private final ThreadPoolExecutor workers;
+    private final int maxRequestBytes;
+    private final ServerMetrics metrics;
+    //Responses by the hash of the source
+    private final Map<String, CachedResponse> responseCache;
+    //One permit for every compile request that is running or waiting for a worker
+    private final Semaphore admitted;
+    private volatile Path importRoot;
+    //Shared by all requests until an imported file changes
+    private ModuleCache modules;
+
+    public CompileServer(int port, int workerCount, int queueCapacity, int maxRequestBytes, int cacheEntries) throws IOException {
+        this.maxRequestBytes = maxRequestBytes;
+        this.metrics = new ServerMetrics();
+        this.responseCache = new LinkedHashMap<String, CachedResponse>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > cacheEntries;
+            }
+        };
+
+        // The queue itself is unbounded, the permits keep it at queueCapacity
+        this.admitted = new Semaphore(workerCount + queueCapacity);
+        workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>());
+
+        // Without an executor the handlers run on the dispatcher thread, the compile handler hands its work over
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        server.createContext("/compile", new CompileHandler());
+        server.createContext("/metrics", new MetricsHandler());
+    }
+
+    /**
+     * Lets sources import the files in this directory and below it, an import path is relative to the directory.
+     * Without an import directory, sources with imports are refused.
+     */
+    public void setImportRoot(Path importRoot) {
+        this.importRoot = importRoot == null ? null : importRoot.toAbsolutePath().normalize();
+        synchronized (this) {
+            modules = null;
+        }
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        workers.shutdown();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public ServerMetrics getMetrics() {
+        return metrics;
+    }
+
+    private class CompileHandler implements HttpHandler {
+        /**
+         * Answers 503 straight away when every worker is busy and the queue is full, otherwise reading and
+         * compiling the request is left to a worker.
+         */
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            metrics.requests.increment();
+            if (!admitted.tryAcquire()) {
+                metrics.rejected.increment();
+                try {
+                    sendEmpty(exchange, 503);
+                } finally {
+                    exchange.close();
+                }
+                return;
+            }
+            try {
+                workers.execute(() -> {
+                    try {
+                        respond(exchange);
+                    } catch (IOException e) {
+                        //The client went away, there is no one left to answer
+                    } finally {
+                        admitted.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                //Stopped
+                admitted.release();
+                exchange.close();
+            }
+        }
+
+        private void respond(HttpExchange exchange) throws IOException {
+            try {
+                if (!"POST".equals(exchange.getRequestMethod())) {
+                    exchange.getResponseHeaders().set("Allow", "POST");
+                    sendEmpty(exchange, 405);
+                    return;
+                }
+                byte[] body = readBody(exchange);
+                if (body == null) {
+                    metrics.tooLarge.increment();
+                    sendEmpty(exchange, 413);
+                    return;
+                }
+
+                String hash = ContentHash.sha256(body);
+                CachedResponse response;
+                synchronized (responseCache) {
+                    response = responseCache.get(hash);
+                }
+                //An imported file has changed when the tag has, the response is outdated then
+                boolean cached = response != null && response.etag.equals(etagOf(hash, currentHashes(response)));
+                if (!cached) {
+                    response = compile(new String(body, StandardCharsets.UTF_8), hash);
+                    synchronized (responseCache) {
+                        responseCache.put(hash, response);
+                    }
+                }
+
+                exchange.getResponseHeaders().set("ETag", response.etag);
+                if (matchesETag(exchange.getRequestHeaders().getFirst("If-None-Match"), response.etag)) {
+                    metrics.notModified.increment();
+                    sendEmpty(exchange, 304);
+                    return;
+                }
+                if (cached) {
+                    metrics.cacheHits.increment();
+                }
+                exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+                send(exchange, 200, response.body);
+            } finally {
+                exchange.close();
+            }
+        }
+
+        private byte[] readBody(HttpExchange exchange) throws IOException {
+            String contentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+            if (contentLength != null) {
+                try {
+                    if (Long.parseLong(contentLength.trim()) > maxRequestBytes) {
+                        return null;
+                    }
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+            // Chunked bodies have no length up front, so the limit is also enforced while reading
+            InputStream in = exchange.getRequestBody();
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                if (buffer.size() + read > maxRequestBytes) {
+                    return null;
+                }
+                buffer.write(chunk, 0, read);
+            }
+            return buffer.toByteArray();
+        }
+    }
+
+    private class MetricsHandler implements HttpHandler {
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            try {
+                StringBuilder text = new StringBuilder();
+                metrics.writeTo(text);
+                text.append("icss_worker_active ").append(workers.getActiveCount()).append('\n');
+                text.append("icss_worker_queue_depth ").append(workers.getQueue().size()).append('\n');
+                synchronized (responseCache) {
+                    text.append("icss_response_cache_entries ").append(responseCache.size()).append('\n');
+                }
+                exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+                send(exchange, 200, text.toString().getBytes(StandardCharsets.UTF_8));
+            } finally {
+                exchange.close();
+            }
+        }
+    }
+
+    private CachedResponse compile(String input, String hash) {
+        long start = System.nanoTime();
+
+        Path root = importRoot;
+        ModuleCache modules = currentModules(root);
+        Pipeline pipeline = new Pipeline();
+        pipeline.setModuleCache(modules);
+        if (root != null) {
+            pipeline.setSourcePath(root.resolve("request.icss"));
+        }
+        String css = "";
+        List<String> errors = pipeline.getErrors();
+        Map<Path, String> imports = new LinkedHashMap<>();
+        try {
+            pipeline.parseString(input);
+            if (root == null && hasImports(pipeline)) {
+                errors.add("Imports are not enabled on this server");
+            }
+            if (errors.isEmpty() && pipeline.check() && pipeline.transform()) {
+                css = pipeline.generate();
+            }
+            //The hashes of the content the modules were loaded from, not of what the files contain by now
+            for (Path imported : pipeline.getImportedPaths()) {
+                imports.put(imported, modules.load(imported, null).getContentHash());
+            }
+        } catch (RuntimeException e) {
+            //The listener can trip over input that only partially parsed, report it instead of dropping the exchange
+            errors.add("Internal error: " + e);
+        }
+        if (!errors.isEmpty()) {
+            metrics.compileErrors.increment();
+        }
+
+        StringBuilder json = new StringBuilder();
+        json.append("{\"css\":");
+        Json.appendString(json, css);
+        json.append(",\"errors\":[");
+        for (int i = 0; i < errors.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            Json.appendString(json, errors.get(i));
+        }
+        json.append("]}");
+
+        metrics.compilations.increment();
+        metrics.compileNanos.add(System.nanoTime() - start);
+        return new CachedResponse(etagOf(hash, imports), imports, json.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Checking whether the loaded files changed reads them, which is still much cheaper than parsing and
+     * checking them again for every request.
+     */
+    private synchronized ModuleCache currentModules(Path root) {
+        if (modules == null || !modules.isUpToDate()) {
+            modules = new ModuleCache(root);
+        }
+        return modules;
+    }
+
+    private static boolean hasImports(Pipeline pipeline) {
+        for (ASTNode node : pipeline.getAST().root.body) {
+            if (node instanceof Import) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Map<Path, String> currentHashes(CachedResponse response) {
+        ModuleCache modules = new ModuleCache(importRoot);
+        Map<Path, String> hashes = new LinkedHashMap<>();
+        for (Path imported : response.imports.keySet()) {
+            hashes.put(imported, modules.currentHash(imported));
+        }
+        return hashes;
+    }
+
+    /**
+     * The tag of a response depends on the source and on every file it imports.
+     */
+    private static String etagOf(String hash, Map<Path, String> imports) {
+        if (imports.isEmpty()) {
+            return "\"" + hash + "\"";
+        }
+        StringBuilder content = new StringBuilder(hash);
+        for (Map.Entry<Path, String> imported : imports.entrySet()) {
+            content.append('\n').append(imported.getKey()).append('=').append(imported.getValue());
+        }
+        return "\"" + ContentHash.sha256(content.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private static boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void sendEmpty(HttpExchange exchange, int status) throws IOException {
+        exchange.sendResponseHeaders(status, -1);
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static class CachedResponse {
+        final String etag;
+        //The hash of every imported file when it was compiled
+        final Map<Path, String> imports;
+        final byte[] body;
+
+        CachedResponse(String etag, Map<Path, String> imports, byte[] body) {
+            this.etag = etag;
+            this.imports = imports;
+            this.body = body;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int workerCount = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        CompileServer server = new CompileServer(port, workerCount, workerCount * 16, 4 * 1024 * 1024, 256);
+        if (args.length > 2) {
+            server.setImportRoot(Paths.get(args[2]));
+        }
+        server.start();
+        System.out.println("ICSS compile server listening on http://localhost:" + server.getPort() + "/compile");
+    }
+}
@@ -0,0 +1,46 @@
+package nl.han.ica.icss.server;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters exposed by the compile server on /metrics.
+ */
+public class ServerMetrics {
+
+    final LongAdder requests = new LongAdder();
+    final LongAdder compilations = new LongAdder();
+    final LongAdder compileErrors = new LongAdder();
+    final LongAdder compileNanos = new LongAdder();
+    final LongAdder cacheHits = new LongAdder();
+    final LongAdder notModified = new LongAdder();
+    final LongAdder rejected = new LongAdder();
+    final LongAdder tooLarge = new LongAdder();
+
+    public long getRequests() {
+        return requests.sum();
+    }
+    public long getCompilations() {
+        return compilations.sum();
+    }
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    void writeTo(StringBuilder text) {
+        line(text, "icss_requests_total", requests.sum());
+        line(text, "icss_compilations_total", compilations.sum());
+        line(text, "icss_compile_errors_total", compileErrors.sum());
+        line(text, "icss_compile_time_ms_total", compileNanos.sum() / 1_000_000);
+        line(text, "icss_response_cache_hits_total", cacheHits.sum());
+        line(text, "icss_not_modified_total", notModified.sum());
+        line(text, "icss_rejected_total", rejected.sum());
+        line(text, "icss_request_too_large_total", tooLarge.sum());
+    }
+
+    private static void line(StringBuilder text, String name, long value) {
+        text.append(name).append(' ').append(value).append('\n');
+    }
+}
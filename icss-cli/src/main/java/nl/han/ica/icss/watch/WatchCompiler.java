@@ -0,0 +1,271 @@
+package nl.han.ica.icss.watch;
+
+import nl.han.ica.icss.build.BatchCompiler;
+import nl.han.ica.icss.build.CompileResult;
+import nl.han.ica.icss.modules.ModuleCache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Watches one or more source directories and recompiles the .icss files that change.
+ *
+ * Bursts of file events (editors often write a file several times on save) are collected
+ * until the directories have been quiet for the debounce delay, and only the files that
+ * changed, and the files that import them, are then recompiled on a background pool.
+ */
+public class WatchCompiler implements Closeable {
+
+    private final List<Path> sourceRoots;
+    private final Path outputRoot;
+    private final long debounceMillis;
+    private final Consumer<CompileResult> listener;
+
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> watchedDirectories = new ConcurrentHashMap<>();
+    private final Set<Path> pending = new HashSet<>();
+    //The files each compiled source imported the last time it was compiled
+    private final Map<Path, List<Path>> importsOf = new ConcurrentHashMap<>();
+    //The sources being compiled, and those of them that changed again since their compile started
+    private final Set<Path> compiling = new HashSet<>();
+    private final Set<Path> dirty = new HashSet<>();
+    private final ScheduledExecutorService debouncer;
+    private final ExecutorService compilePool;
+    private final BatchCompiler compiler;
+    private ScheduledFuture<?> scheduledBuild;
+    private Thread watchThread;
+    private volatile boolean running;
+
+    /**
+     * @param sourceRoots The directories to watch, including their subdirectories.
+     * @param outputRoot Where the CSS files are written, or null to write them next to the sources.
+     * @param debounceMillis How long the directories must be quiet before a rebuild starts.
+     * @param threads The number of files compiled at the same time.
+     * @param listener Receives the result of every compiled file.
+     */
+    public WatchCompiler(List<Path> sourceRoots, Path outputRoot, long debounceMillis, int threads,
+                         Consumer<CompileResult> listener) throws IOException {
+        this.sourceRoots = new ArrayList<>();
+        for (Path root : sourceRoots) {
+            this.sourceRoots.add(root.toAbsolutePath().normalize());
+        }
+        this.outputRoot = outputRoot == null ? null : outputRoot.toAbsolutePath().normalize();
+        this.debounceMillis = debounceMillis;
+        this.listener = listener;
+
+        watchService = FileSystems.getDefault().newWatchService();
+        debouncer = Executors.newSingleThreadScheduledExecutor(daemon("icss-watch-debounce"));
+        compilePool = Executors.newFixedThreadPool(threads, daemon("icss-watch-compile"));
+        compiler = new BatchCompiler(compilePool);
+    }
+
+    /**
+     * Registers the directories, compiles every file once and starts watching for changes.
+     */
+    public void start() throws IOException {
+        List<Path> sources = new ArrayList<>();
+        for (Path root : sourceRoots) {
+            registerTree(root);
+            sources.addAll(findSources(root));
+        }
+        build(sources);
+
+        running = true;
+        watchThread = new Thread(this::processEvents, "icss-watch");
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        watchService.close();
+        debouncer.shutdownNow();
+        compilePool.shutdown();
+    }
+
+    private void processEvents() {
+        while (running) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            Path directory = watchedDirectories.get(key);
+            if (directory != null) {
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    handleEvent(directory, event);
+                }
+            }
+            if (!key.reset()) {
+                watchedDirectories.remove(key);
+            }
+        }
+    }
+
+    private void handleEvent(Path directory, WatchEvent<?> event) {
+        if (event.kind() == OVERFLOW) {
+            //Events were lost, so the only safe thing is to look at everything again
+            for (Path root : sourceRoots) {
+                try {
+                    schedule(findSources(root));
+                } catch (IOException e) {
+                    listener.accept(new CompileResult(root, null, Collections.emptyList(),
+                            Collections.singletonList("I/O error: " + e.getMessage())));
+                }
+            }
+            return;
+        }
+        Path changed = directory.resolve((Path) event.context());
+        if (event.kind() == ENTRY_CREATE && Files.isDirectory(changed)) {
+            try {
+                registerTree(changed);
+                schedule(findSources(changed));
+            } catch (IOException e) {
+                listener.accept(new CompileResult(changed, null, Collections.emptyList(),
+                        Collections.singletonList("I/O error: " + e.getMessage())));
+            }
+        } else if (BatchCompiler.isIcssFile(changed)) {
+            //A deleted file is still scheduled, so the files importing it are rebuilt and report the missing import
+            schedule(Collections.singletonList(changed));
+        }
+    }
+
+    private synchronized void schedule(Collection<Path> changed) {
+        if (changed.isEmpty()) {
+            return;
+        }
+        pending.addAll(changed);
+        if (scheduledBuild != null) {
+            scheduledBuild.cancel(false);
+        }
+        scheduledBuild = debouncer.schedule(this::flush, debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void flush() {
+        Set<Path> changed;
+        synchronized (this) {
+            changed = new HashSet<>(pending);
+            pending.clear();
+            scheduledBuild = null;
+        }
+
+        Set<Path> stale = new LinkedHashSet<>();
+        for (Path file : changed) {
+            if (Files.exists(file)) {
+                stale.add(file);
+            } else {
+                importsOf.remove(file);
+            }
+        }
+        for (Map.Entry<Path, List<Path>> entry : importsOf.entrySet()) {
+            for (Path imported : entry.getValue()) {
+                if (changed.contains(imported)) {
+                    stale.add(entry.getKey());
+                    break;
+                }
+            }
+        }
+        build(new ArrayList<>(stale));
+    }
+
+    private void build(List<Path> sources) {
+        //Every rebuild starts with a fresh module cache, so changed imports are read again
+        ModuleCache modules = new ModuleCache();
+        for (Path source : sources) {
+            synchronized (compiling) {
+                //A file that is still compiling is compiled again when it is done, never twice at the same time,
+                //so an older compile can not finish last and leave stale CSS behind
+                if (!compiling.add(source)) {
+                    dirty.add(source);
+                    continue;
+                }
+            }
+            compilePool.execute(() -> compile(source, modules));
+        }
+    }
+
+    private void compile(Path source, ModuleCache modules) {
+        try {
+            CompileResult result = compiler.compileFile(source, targetFor(source), modules);
+            importsOf.put(source, result.getImports());
+            listener.accept(result);
+        } finally {
+            synchronized (compiling) {
+                if (dirty.remove(source) && !compilePool.isShutdown()) {
+                    compilePool.execute(() -> compile(source, new ModuleCache()));
+                } else {
+                    compiling.remove(source);
+                }
+            }
+        }
+    }
+
+    private Path targetFor(Path source) {
+        for (Path root : sourceRoots) {
+            if (source.startsWith(root)) {
+                return BatchCompiler.cssPathFor(root, outputRoot, source);
+            }
+        }
+        return BatchCompiler.cssPathFor(source.getParent(), null, source);
+    }
+
+    private void registerTree(Path root) throws IOException {
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                if (outputRoot != null && dir.startsWith(outputRoot) && !outputRoot.equals(root)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                watchedDirectories.put(dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static List<Path> findSources(Path root) throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile).filter(BatchCompiler::isIcssFile).collect(Collectors.toList());
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length == 0) {
+            System.err.println("Usage: WatchCompiler <source directory>... [-o <output directory>]");
+            System.exit(1);
+        }
+        List<Path> roots = new ArrayList<>();
+        Path output = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-o") && i + 1 < args.length) {
+                output = Paths.get(args[++i]);
+            } else {
+                roots.add(Paths.get(args[i]));
+            }
+        }
+
+        WatchCompiler watcher = new WatchCompiler(roots, output, 150, Runtime.getRuntime().availableProcessors(),
+                result -> (result.isSuccess() ? System.out : System.err).println(result));
+        watcher.start();
+        System.out.println("Watching " + roots + " for changes...");
+        Thread.currentThread().join();
+    }
+}
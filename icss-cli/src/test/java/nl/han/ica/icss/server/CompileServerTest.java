@@ -0,0 +1,181 @@
+package nl.han.ica.icss.server;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+class CompileServerTest {
+
+	private static final String SOURCE = "p { width: 10px; }";
+
+	@Test
+	void testNotModifiedForSameSource() throws IOException {
+
+		CompileServer server = started(1, 4, 1024, 8);
+		try {
+			HttpURLConnection first = post(server, SOURCE, null);
+			assertEquals(200, first.getResponseCode());
+			String etag = first.getHeaderField("ETag");
+			assertTrue(read(first).contains("p {"));
+
+			HttpURLConnection second = post(server, SOURCE, "W/" + etag);
+			assertEquals(304, second.getResponseCode());
+			assertEquals(etag, second.getHeaderField("ETag"));
+
+			//Another source has another tag
+			assertEquals(200, post(server, "a { width: 10px; }", etag).getResponseCode());
+		} finally {
+			server.stop();
+		}
+	}
+	@Test
+	void testRejectTooLarge() throws IOException {
+
+		CompileServer server = started(1, 4, 16, 8);
+		try {
+			assertEquals(413, post(server, SOURCE + SOURCE, null).getResponseCode());
+			assertEquals(1, server.getMetrics().tooLarge.sum());
+			assertEquals(0, server.getMetrics().getCompilations());
+		} finally {
+			server.stop();
+		}
+	}
+	@Test
+	void testCacheResponses() throws IOException {
+
+		//Room for one response: the second source pushes out the first
+		CompileServer server = started(1, 4, 1024, 1);
+		try {
+			String css = read(post(server, SOURCE, null));
+			assertEquals(css, read(post(server, SOURCE, null)));
+			assertEquals(1, server.getMetrics().getCompilations());
+			assertEquals(1, server.getMetrics().getCacheHits());
+
+			read(post(server, "a { width: 10px; }", null));
+			assertEquals(css, read(post(server, SOURCE, null)));
+			assertEquals(3, server.getMetrics().getCompilations());
+			assertEquals(1, server.getMetrics().getCacheHits());
+		} finally {
+			server.stop();
+		}
+	}
+	@Test
+	void testRejectWhenBusy() throws IOException, InterruptedException {
+
+		//One worker and no queue: a request whose body is still coming in takes the only place
+		CompileServer server = started(1, 0, 1024, 8);
+		try {
+			HttpURLConnection slow = connection(server, null);
+			slow.setChunkedStreamingMode(0);
+			OutputStream body = slow.getOutputStream();
+			body.write("p {".getBytes(StandardCharsets.UTF_8));
+			body.flush();
+			for (int i = 0; i < 500 && server.getMetrics().getRequests() == 0; i++) {
+				Thread.sleep(10);
+			}
+			assertEquals(1, server.getMetrics().getRequests());
+
+			assertEquals(503, post(server, SOURCE, null).getResponseCode());
+			assertEquals(1, server.getMetrics().getRejected());
+
+			body.write(" width: 10px; }".getBytes(StandardCharsets.UTF_8));
+			body.close();
+			assertEquals(200, slow.getResponseCode());
+		} finally {
+			server.stop();
+		}
+	}
+
+	@Test
+	void testImportChangesTag() throws IOException {
+
+		Path root = Files.createTempDirectory("icss-server");
+		Path theme = Files.write(root.resolve("theme.icss"), "W := 10px;".getBytes(StandardCharsets.UTF_8));
+		String source = "@import \"theme.icss\";\np { width: W; }";
+		CompileServer server = started(1, 4, 1024, 8);
+		server.setImportRoot(root);
+		try {
+			HttpURLConnection first = post(server, source, null);
+			String etag = first.getHeaderField("ETag");
+			assertTrue(read(first).contains("10px"));
+			assertEquals(304, post(server, source, etag).getResponseCode());
+
+			//Neither the tag nor the cached response may outlive the imported content
+			Files.write(theme, "W := 20px;".getBytes(StandardCharsets.UTF_8));
+			HttpURLConnection changed = post(server, source, etag);
+			assertEquals(200, changed.getResponseCode());
+			assertNotEquals(etag, changed.getHeaderField("ETag"));
+			assertTrue(read(changed).contains("20px"));
+			assertEquals(2, server.getMetrics().getCompilations());
+		} finally {
+			server.stop();
+		}
+	}
+	@Test
+	void testImportOnlyFromRoot() throws IOException {
+
+		Path directory = Files.createTempDirectory("icss-server");
+		Path root = Files.createDirectory(directory.resolve("root"));
+		Files.write(directory.resolve("secret.icss"), "Secret := 10px;".getBytes(StandardCharsets.UTF_8));
+		String source = "@import \"../secret.icss\";\np { width: Secret; }";
+		CompileServer server = started(1, 4, 1024, 8);
+		try {
+			assertTrue(read(post(server, source, null)).contains("Imports are not enabled on this server"));
+
+			server.setImportRoot(root);
+			String response = read(post(server, source + "\na { width: 1px; }", null));
+			assertTrue(response.contains("outside of the import directory"), response);
+			assertFalse(response.contains("10px"), response);
+		} finally {
+			server.stop();
+		}
+	}
+
+	private static CompileServer started(int workers, int queue, int maxRequestBytes, int cacheEntries) throws IOException {
+		CompileServer server = new CompileServer(0, workers, queue, maxRequestBytes, cacheEntries);
+		server.start();
+		return server;
+	}
+
+	private static HttpURLConnection connection(CompileServer server, String ifNoneMatch) throws IOException {
+		HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + server.getPort() + "/compile")
+				.openConnection();
+		connection.setRequestMethod("POST");
+		connection.setDoOutput(true);
+		if (ifNoneMatch != null) {
+			connection.setRequestProperty("If-None-Match", ifNoneMatch);
+		}
+		return connection;
+	}
+
+	private static HttpURLConnection post(CompileServer server, String source, String ifNoneMatch) throws IOException {
+		HttpURLConnection connection = connection(server, ifNoneMatch);
+		byte[] bytes = source.getBytes(StandardCharsets.UTF_8);
+		connection.setFixedLengthStreamingMode(bytes.length);
+		try (OutputStream out = connection.getOutputStream()) {
+			out.write(bytes);
+		}
+		return connection;
+	}
+
+	private static String read(HttpURLConnection connection) throws IOException {
+		assertEquals(200, connection.getResponseCode());
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (InputStream in = connection.getInputStream()) {
+			byte[] buffer = new byte[1024];
+			for (int read; (read = in.read(buffer)) != -1; ) {
+				bytes.write(buffer, 0, read);
+			}
+		}
+		return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+	}
+}
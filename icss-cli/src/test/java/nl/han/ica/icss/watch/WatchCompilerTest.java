@@ -0,0 +1,128 @@
+package nl.han.ica.icss.watch;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import nl.han.ica.icss.build.CompileResult;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class WatchCompilerTest {
+
+	private static final long DEBOUNCE_MILLIS = 200;
+
+	private static Path write(Path file, String icss) throws IOException {
+		return Files.write(file, icss.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String read(Path file) throws IOException {
+		return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+	}
+
+	private static CompileResult next(BlockingQueue<CompileResult> results) throws InterruptedException {
+		CompileResult result = results.poll(10, TimeUnit.SECONDS);
+		assertNotNull(result, "No file was compiled");
+		return result;
+	}
+
+	@Test
+	void testDebounceBurst() throws IOException, InterruptedException {
+
+		Path root = Files.createTempDirectory("icss-watch");
+		Path page = write(root.resolve("page.icss"), "p { width: 1px; }");
+		BlockingQueue<CompileResult> results = new LinkedBlockingQueue<>();
+		try (WatchCompiler watcher = new WatchCompiler(Collections.singletonList(root),
+				Files.createTempDirectory("icss-watch-out"), DEBOUNCE_MILLIS, 2, results::add)) {
+			watcher.start();
+			assertTrue(next(results).isSuccess());
+
+			//Every save comes before the previous one is quiet for long enough, so there is one rebuild
+			for (int width = 2; width <= 5; width++) {
+				write(page, "p { width: " + width + "px; }");
+				Thread.sleep(DEBOUNCE_MILLIS / 4);
+			}
+			CompileResult result = next(results);
+			assertTrue(read(result.getTarget()).contains("5px"));
+			assertNull(results.poll(DEBOUNCE_MILLIS * 5, TimeUnit.MILLISECONDS));
+		}
+	}
+	@Test
+	void testRebuildImporters() throws IOException, InterruptedException {
+
+		Path root = Files.createTempDirectory("icss-watch");
+		Path theme = write(root.resolve("theme.icss"), "W := 1px;");
+		Path page = write(root.resolve("page.icss"), "@import \"theme.icss\";\np { width: W; }");
+		write(root.resolve("other.icss"), "a { width: 1px; }");
+		BlockingQueue<CompileResult> results = new LinkedBlockingQueue<>();
+		try (WatchCompiler watcher = new WatchCompiler(Collections.singletonList(root),
+				Files.createTempDirectory("icss-watch-out"), DEBOUNCE_MILLIS, 2, results::add)) {
+			watcher.start();
+			for (int i = 0; i < 3; i++) {
+				assertTrue(next(results).isSuccess());
+			}
+
+			//The theme and the page that imports it are compiled, the other file is left alone
+			write(theme, "W := 7px;");
+			CompileResult first = next(results);
+			CompileResult second = next(results);
+			CompileResult rebuilt = first.getSource().equals(page) ? first : second;
+			assertEquals(page, rebuilt.getSource());
+			assertTrue(read(rebuilt.getTarget()).contains("7px"));
+			assertNull(results.poll(DEBOUNCE_MILLIS * 5, TimeUnit.MILLISECONDS));
+		}
+	}
+	@Test
+	void testNeverCompileSameFileTwiceAtOnce() throws IOException, InterruptedException {
+
+		Path root = Files.createTempDirectory("icss-watch");
+		Path page = write(root.resolve("page.icss"), "p { width: 1px; }");
+		BlockingQueue<CompileResult> results = new LinkedBlockingQueue<>();
+		AtomicBoolean hold = new AtomicBoolean();
+		AtomicInteger compiled = new AtomicInteger();
+		CountDownLatch holding = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		//The listener runs as part of the compile, holding it keeps the compile of the file going
+		try (WatchCompiler watcher = new WatchCompiler(Collections.singletonList(root),
+				Files.createTempDirectory("icss-watch-out"), DEBOUNCE_MILLIS, 2, result -> {
+			compiled.incrementAndGet();
+			if (hold.getAndSet(false)) {
+				holding.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			results.add(result);
+		})) {
+			watcher.start();
+			next(results);
+
+			hold.set(true);
+			write(page, "p { width: 2px; }");
+			assertTrue(holding.await(10, TimeUnit.SECONDS));
+
+			//A free thread is there, but the change waits for the running compile
+			write(page, "p { width: 3px; }");
+			Thread.sleep(DEBOUNCE_MILLIS * 5);
+			assertEquals(2, compiled.get());
+
+			release.countDown();
+			next(results);
+			CompileResult last = next(results);
+			assertEquals(3, compiled.get());
+			assertTrue(read(last.getTarget()).contains("3px"));
+		}
+	}
+}
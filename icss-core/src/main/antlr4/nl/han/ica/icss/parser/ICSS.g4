@@ -11,6 +11,7 @@ PLUS: '+';
 MIN: '-';
 MUL: '*';
 ASSIGNMENT_OPERATOR: ':=';
+IMPORT: '@import';
 
 //Literals
 PIXELSIZE: [0-9]+ 'px';
@@ -24,6 +25,9 @@ COLOR: '#' [0-9a-f] [0-9a-f] [0-9a-f] [0-9a-f] [0-9a-f] [0-9a-f];
 ID_IDENT: '#' [a-z0-9\-]+;
 CLASS_IDENT: '.' [a-z0-9\-]+;
 
+//Path of an imported file
+STRING: '"' ~["\r\n]* '"';
+
 //General identifiers
 LOWER_IDENT: [a-z] [a-z0-9\-]*;
 CAPITAL_IDENT: [A-Z] [A-Za-z0-9_]*;
@@ -33,7 +37,8 @@ WS: [ \t\r\n]+ -> skip;
 
 //--- PARSER: ---
 
-stylesheet: stylerule* EOF;
+stylesheet: importStatement* stylerule* EOF;
+importStatement: IMPORT STRING SEMICOLON;
 stylerule: selector OPEN_BRACE body CLOSE_BRACE | variableAssignment;
 selector: LOWER_IDENT | ID_IDENT | CLASS_IDENT;
 body: decleration+;
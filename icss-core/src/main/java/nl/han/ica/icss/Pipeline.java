@@ -0,0 +1,434 @@
+package nl.han.ica.icss;
+
+import nl.han.ica.icss.ast.AST;
+import nl.han.ica.icss.ast.ASTNode;
+import nl.han.ica.icss.ast.Import;
+import nl.han.ica.icss.ast.Literal;
+import nl.han.ica.icss.ast.VariableAssignment;
+import nl.han.ica.icss.ast.types.ExpressionType;
+import nl.han.ica.icss.checker.Checker;
+import nl.han.ica.icss.checker.SemanticError;
+import nl.han.ica.icss.generator.Generator;
+import nl.han.ica.icss.generator.GzipCopyChannel;
+import nl.han.ica.icss.modules.Module;
+import nl.han.ica.icss.modules.ModuleCache;
+import nl.han.ica.icss.parser.ICCSReader;
+import nl.han.ica.icss.parser.ICSSLexer;
+import nl.han.ica.icss.parser.ICSSParser;
+import nl.han.ica.icss.scope.Resolver;
+import nl.han.ica.icss.transforms.EvalExpressions;
+import nl.han.ica.icss.transforms.ExtractCustomProperties;
+import nl.han.ica.icss.transforms.MergeRules;
+import nl.han.ica.icss.transforms.RemoveNesting;
+import nl.han.ica.icss.transforms.RemoveOverriddenDeclarations;
+import nl.han.ica.icss.transforms.RemoveUnusedVariables;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.ATNConfigSet;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.Deflater;
+
+public class Pipeline implements ANTLRErrorListener {
+
+    private AST ast;
+    private boolean parsed = false;
+    private boolean checked = false;
+    //Whether the last check found no errors, only then the AST can be transformed
+    private boolean checkPassed = false;
+    private boolean transformed = false;
+    private List<String> errors;
+    private List<String> notices;
+
+    private Path sourcePath;
+    private ModuleCache moduleCache;
+    private Map<String, ExpressionType> importedVariableTypes = Collections.emptyMap();
+    private Map<String, Literal> importedVariableValues = Collections.emptyMap();
+    private Map<String, ExpressionType> globalVariableTypes = Collections.emptyMap();
+    private List<Path> importedPaths = Collections.emptyList();
+    private ForkJoinPool pool;
+    private Resolver resolver;
+    private boolean warnUnusedVariables = false;
+    private boolean minified = false;
+    private boolean sortSelectors = false;
+    private boolean canonical = false;
+    private int gzipLevel = Deflater.BEST_COMPRESSION;
+    private boolean customProperties = false;
+    private boolean removeOverridden = false;
+    private boolean mergeRules = false;
+
+    public Pipeline() {
+        errors = new ArrayList<>();
+        notices = new ArrayList<>();
+    }
+
+    /**
+     * Sets the file the input comes from. Imports are resolved relative to this file,
+     * or relative to the working directory when it is not set.
+     */
+    public void setSourcePath(Path sourcePath) {
+        this.sourcePath = sourcePath;
+    }
+
+    /**
+     * Shares imported files between pipelines, so each file is only parsed and checked once per build.
+     * Without a cache every check loads the imported files again.
+     */
+    public void setModuleCache(ModuleCache moduleCache) {
+        this.moduleCache = moduleCache;
+    }
+
+    /**
+     * Checks the top-level rules, evaluates independent global variables and generates chunks of rules
+     * in parallel on the pool. Without a pool everything is done one by one.
+     */
+    public void setForkJoinPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Adds a notice for every variable that transform removes because its value is never used.
+     */
+    public void setWarnUnusedVariables(boolean warnUnusedVariables) {
+        this.warnUnusedVariables = warnUnusedVariables;
+    }
+
+    /**
+     * @see Generator#setMinified(boolean)
+     */
+    public void setMinified(boolean minified) {
+        this.minified = minified;
+    }
+
+    /**
+     * @see Generator#setSortSelectors(boolean)
+     */
+    public void setSortSelectors(boolean sortSelectors) {
+        this.sortSelectors = sortSelectors;
+    }
+
+    /**
+     * @see Generator#setCanonical(boolean)
+     */
+    public void setCanonical(boolean canonical) {
+        this.canonical = canonical;
+    }
+
+    /**
+     * The deflate level of the gzip copy written by {@link #generate(Path, Path)}, from 1 (fastest) to 9 (smallest).
+     * Defaults to 9: a copy is compressed once and sent many times.
+     * @throws IllegalArgumentException When the level is not a deflate level.
+     */
+    public void setGzipLevel(int gzipLevel) {
+        GzipCopyChannel.checkLevel(gzipLevel);
+        this.gzipLevel = gzipLevel;
+    }
+
+    /**
+     * Writes global variables with a literal value as CSS custom properties, see {@link ExtractCustomProperties}.
+     */
+    public void setCustomProperties(boolean customProperties) {
+        this.customProperties = customProperties;
+    }
+
+    /**
+     * Removes declarations that a later declaration overrides for every selector of their rule,
+     * see {@link RemoveOverriddenDeclarations}.
+     */
+    public void setRemoveOverridden(boolean removeOverridden) {
+        this.removeOverridden = removeOverridden;
+    }
+
+    /**
+     * Merges rules with the same declarations into the first of them, see {@link MergeRules}.
+     */
+    public void setMergeRules(boolean mergeRules) {
+        this.mergeRules = mergeRules;
+    }
+
+    public AST getAST() {
+        return ast;
+    }
+    public List<String> getErrors() {
+        return errors;
+    }
+    /**
+     * @return Information about the last transform that is not an error, e.g. what the optimizations saved.
+     */
+    public List<String> getNotices() {
+        return notices;
+    }
+    public boolean isParsed() {
+        return parsed;
+    }
+    public boolean isChecked() {
+        return checked;
+    }
+    /**
+     * @return Whether the input was checked and the check found no errors, so it can be transformed.
+     */
+    public boolean isCheckPassed() {
+        return checkPassed;
+    }
+    public boolean isTransformed() {
+        return transformed;
+    }
+    public Map<String, ExpressionType> getImportedVariableTypes() {
+        return importedVariableTypes;
+    }
+    public Map<String, Literal> getImportedVariableValues() {
+        return importedVariableValues;
+    }
+    public Map<String, ExpressionType> getGlobalVariableTypes() {
+        return globalVariableTypes;
+    }
+    /**
+     * @return The variable bindings of the last check, e.g. to find the usages of a variable.
+     */
+    public Resolver getResolver() {
+        return resolver;
+    }
+    /**
+     * @return All files imported by the input after checking, directly or indirectly.
+     */
+    public List<Path> getImportedPaths() {
+        return importedPaths;
+    }
+
+    public void parseFile(Path file) throws IOException {
+        setSourcePath(file);
+        parseString(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+    }
+
+    public void parseString(String input) {
+
+        //Lex (with Antlr's generated lexer)
+        CharStream inputStream = CharStreams.fromString(input);
+        ICSSLexer lexer = new ICSSLexer(inputStream);
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(this);
+        try {
+            CommonTokenStream tokens = new CommonTokenStream(lexer);
+
+            //Parse (with Antlr's generated parser)
+            ICSSParser parser = new ICSSParser(tokens);
+            parser.removeErrorListeners();
+            parser.addErrorListener(this);
+
+            ParseTree parseTree = parser.stylesheet();
+
+            //Extract AST from the Antlr parse tree
+            ICCSReader listener = new ICCSReader();
+            ParseTreeWalker walker = new ParseTreeWalker();
+            walker.walk(listener, parseTree);
+
+            this.ast = listener.getAST();
+
+        } catch (RecognitionException e) {
+            this.ast = new AST();
+            errors.add(e.getMessage());
+
+        } catch (ParseCancellationException e) {
+            this.ast = new AST();
+            errors.add("Syntax error");
+        }
+        parsed = true;
+        checked = checkPassed = transformed = false;
+    }
+    public boolean check() {
+            if(ast == null)
+                return false;
+
+            resolveImports();
+            resolver = new Resolver(importedVariableValues);
+            resolver.resolve(this.ast);
+
+            Checker checker = new Checker();
+            if (pool != null) {
+                checker.check(this.ast, pool);
+            } else {
+                checker.check(this.ast);
+            }
+            //The types of the imports are known already, so the imported variables do not have to be bound
+            globalVariableTypes = new HashMap<>(importedVariableTypes);
+            for (ASTNode node : ast.root.body) {
+                if (node instanceof VariableAssignment) {
+                    VariableAssignment variable = (VariableAssignment) node;
+                    globalVariableTypes.put(variable.name.name, variable.expression.getType());
+                }
+            }
+
+            ArrayList<SemanticError> errors = this.ast.getErrors();
+            if (!errors.isEmpty()) {
+                for (SemanticError e : errors) {
+                    this.errors.add(e.toString());
+                }
+            }
+
+            checked = true;
+            checkPassed = errors.isEmpty();
+            transformed = false;
+            return checkPassed;
+    }
+    private void resolveImports() {
+        ModuleCache modules = moduleCache != null ? moduleCache : new ModuleCache();
+        importedVariableTypes = new HashMap<>();
+        importedVariableValues = new HashMap<>();
+        Set<Path> imported = new LinkedHashSet<>();
+
+        for (ASTNode node : ast.root.body) {
+            if (node instanceof Import) {
+                Import anImport = (Import) node;
+                Module module = modules.load(ModuleCache.resolve(sourcePath, anImport.path), sourcePath);
+                if (module.hasErrors()) {
+                    anImport.setError("Imported file '" + anImport.path + "' has errors: "
+                            + String.join(", ", module.getErrors()));
+                } else {
+                    importedVariableTypes.putAll(module.getVariableTypes());
+                    importedVariableValues.putAll(module.getVariableValues());
+                }
+                imported.add(module.getPath());
+                imported.addAll(module.getDependencies());
+            }
+        }
+        importedPaths = new ArrayList<>(imported);
+    }
+
+    /**
+     * @return Whether every expression could be evaluated, the errors are added to the pipeline errors.
+     * False without transforming when the last check did not pass.
+     */
+    public boolean transform() {
+        if(ast == null || !checkPassed)
+            return false;
+
+        notices.clear();
+        RemoveUnusedVariables unused = new RemoveUnusedVariables();
+        unused.apply(ast);
+        if (warnUnusedVariables) {
+            for (VariableAssignment variable : unused.getRemoved()) {
+                notices.add("Variable '" + variable.name.name + "' is never used");
+            }
+        }
+        if (customProperties) {
+            (new ExtractCustomProperties()).apply(ast);
+        }
+        EvalExpressions evaluator = pool != null ? new EvalExpressions(pool) : new EvalExpressions();
+        evaluator.apply(ast);
+        for (SemanticError e : evaluator.getErrors()) {
+            errors.add(e.toString());
+        }
+        if (evaluator.getSavedEvaluations() > 0) {
+            notices.add("Reused identical expressions, " + evaluator.getSavedEvaluations() + " operations not evaluated");
+        }
+        (new RemoveNesting()).apply(ast);
+        if (removeOverridden) {
+            RemoveOverriddenDeclarations overridden = new RemoveOverriddenDeclarations();
+            overridden.apply(ast);
+            if (overridden.getRemovedDeclarations() > 0) {
+                notices.add("Removed " + overridden.getRemovedDeclarations() + " declarations that are overridden later");
+            }
+        }
+        if (mergeRules) {
+            MergeRules merger = new MergeRules();
+            merger.apply(ast);
+            if (merger.getMergedRules() > 0) {
+                notices.add("Merged " + merger.getMergedRules() + " rules with the same declarations into earlier rules");
+            }
+        }
+
+        //Expressions that could not be evaluated are still in the AST, they can not be generated
+        transformed = evaluator.getErrors().isEmpty();
+        return transformed;
+    }
+    public String generate() {
+        return newGenerator().generate(ast);
+    }
+
+    /**
+     * Writes the CSS to the output while it is generated, e.g. to a Writer. The output is not flushed.
+     */
+    public void generate(Appendable out) throws IOException {
+        if (pool != null) {
+            newGenerator().generate(ast, out, pool);
+        } else {
+            newGenerator().generate(ast, out);
+        }
+    }
+
+    /**
+     * Writes the CSS as UTF-8 to the channel while it is generated. The channel is not closed.
+     */
+    public void generate(WritableByteChannel channel) throws IOException {
+        if (pool != null) {
+            newGenerator().generate(ast, channel, pool);
+        } else {
+            newGenerator().generate(ast, channel);
+        }
+    }
+
+    /**
+     * Writes the CSS as UTF-8 to the file while it is generated, replacing the file if it exists.
+     */
+    public void generate(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            generate(channel);
+        }
+    }
+
+    /**
+     * Writes the CSS as UTF-8 to the file and a gzip-compressed copy to gzipFile, compressing while the CSS is
+     * generated. Both files are replaced if they exist.
+     */
+    public void generate(Path file, Path gzipFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+             OutputStream compressed = Files.newOutputStream(gzipFile);
+             GzipCopyChannel copy = new GzipCopyChannel(channel, compressed, gzipLevel)) {
+            generate(copy);
+        }
+    }
+
+    private Generator newGenerator() {
+        Generator generator = new Generator();
+        generator.setMinified(minified);
+        generator.setSortSelectors(sortSelectors);
+        generator.setCanonical(canonical);
+        return generator;
+    }
+
+    //Catch ANTLR errors
+    @Override
+    public void reportAmbiguity(Parser arg0, DFA arg1, int arg2, int arg3,
+                                boolean arg4, BitSet arg5, ATNConfigSet arg6) {
+    }
+
+    @Override
+    public void reportAttemptingFullContext(Parser arg0, DFA arg1, int arg2,
+                                            int arg3, BitSet arg4, ATNConfigSet arg5) {
+    }
+
+    @Override
+    public void reportContextSensitivity(Parser arg0, DFA arg1, int arg2,
+                                         int arg3, int arg4, ATNConfigSet arg5) {
+    }
+
+    @Override
+    public void syntaxError(Recognizer<?, ?> arg0, Object arg1, int arg2,
+                            int arg3, String arg4, RecognitionException arg5) {
+        errors.add("Syntax error: " + arg4);
+    }
+}
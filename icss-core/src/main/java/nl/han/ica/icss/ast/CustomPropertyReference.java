@@ -0,0 +1,38 @@
+package nl.han.ica.icss.ast;
+
+import java.util.Objects;
+
+/**
+ * Uses the value of a CSS custom property, <code>var(--name)</code>, instead of the value of a variable.
+ * Created by {@link nl.han.ica.icss.transforms.ExtractCustomProperties}, the value is looked up by the browser.
+ */
+public class CustomPropertyReference extends Expression {
+
+	//The name of the custom property, without the leading dashes
+	public String name;
+
+	public CustomPropertyReference(String name) {
+		super();
+		this.name = name;
+	}
+
+	@Override
+	public String getNodeLabel() {
+		return "CustomPropertyReference (" + name + ")";
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		if (!super.equals(o)) return false;
+		CustomPropertyReference that = (CustomPropertyReference) o;
+		return Objects.equals(name, that.name);
+	}
+
+	@Override
+	public int hashCode() {
+
+		return Objects.hash(name);
+	}
+}
@@ -0,0 +1,20 @@
+package nl.han.ica.icss.ast;
+
+import nl.han.ica.icss.ast.types.ExpressionType;
+
+public abstract class Expression extends ASTNode {
+
+    //Inferred once by the checker, so later checks and stages can reuse it
+    private ExpressionType type;
+
+    /**
+     * @return The type of this expression, or null when it has not been inferred yet.
+     */
+    public ExpressionType getType() {
+        return type;
+    }
+
+    public void setType(ExpressionType type) {
+        this.type = type;
+    }
+}
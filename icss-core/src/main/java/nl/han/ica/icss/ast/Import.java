@@ -0,0 +1,35 @@
+package nl.han.ica.icss.ast;
+
+import java.util.Objects;
+
+/**
+ * An import makes the global variables of another ICSS file available, e.g. @import "palette.icss";
+ */
+public class Import extends ASTNode {
+
+	public String path;
+
+	public Import(String path) {
+		super();
+		this.path = path;
+	}
+
+	@Override
+	public String getNodeLabel() {
+		return "Import (" + path + ")";
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		if (!super.equals(o)) return false;
+		Import that = (Import) o;
+		return Objects.equals(path, that.path);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(path);
+	}
+}
@@ -0,0 +1,99 @@
+package nl.han.ica.icss.ast;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class PropertyName extends ASTNode {
+
+    //Shorthands and longhands that do not start with the same word, by the shorthand they belong to
+    private static final Map<String, String> OTHER_SHORTHANDS = new HashMap<>();
+
+    static {
+        for (String property : new String[] {"gap", "row-gap", "column-gap"}) {
+            OTHER_SHORTHANDS.put(property, "gap");
+        }
+        for (String property : new String[] {"inset", "top", "right", "bottom", "left"}) {
+            OTHER_SHORTHANDS.put(property, "inset");
+        }
+        OTHER_SHORTHANDS.put("font", "font");
+        OTHER_SHORTHANDS.put("line-height", "font");
+        for (String property : new String[] {"columns", "column-count", "column-width"}) {
+            OTHER_SHORTHANDS.put(property, "columns");
+        }
+        //Logical properties set the same values as physical ones, e.g. inline-size is the width in horizontal text
+        for (String property : new String[] {"width", "height", "inline-size", "block-size"}) {
+            OTHER_SHORTHANDS.put(property, "size");
+        }
+        for (String property : new String[] {"place-content", "align-content", "justify-content"}) {
+            OTHER_SHORTHANDS.put(property, "place-content");
+        }
+        for (String property : new String[] {"place-items", "align-items", "justify-items"}) {
+            OTHER_SHORTHANDS.put(property, "place-items");
+        }
+        for (String property : new String[] {"place-self", "align-self", "justify-self"}) {
+            OTHER_SHORTHANDS.put(property, "place-self");
+        }
+    }
+
+    public String name;
+
+    public PropertyName() {
+        super();
+        name = "undefined";
+    }
+    public PropertyName(String name) {
+        super();
+        this.name = name;
+    }
+
+    @Override
+    public String getNodeLabel() {
+        return "Property: (" + name + ")";
+    }
+
+    /**
+     * Whether two properties can set the same value, so the order of their declarations matters: a shorthand and its
+     * longhands, like margin and margin-top or border-color and border-top-color. Properties that start with the same
+     * word are taken to be related, that is too careful for e.g. border-color and border-width but catches every
+     * shorthand of that form. The few shorthands with longhands that start with another word are listed.
+     * Custom properties are only related to themselves.
+     */
+    public static boolean related(String a, String b) {
+        if (a.startsWith("--") || b.startsWith("--")) {
+            return a.equals(b);
+        }
+        int end = firstWordEnd(a);
+        if (end == firstWordEnd(b) && a.regionMatches(0, b, 0, end)) {
+            return true;
+        }
+        String shorthand = shorthandOf(a);
+        return shorthand != null && shorthand.equals(shorthandOf(b));
+    }
+
+    /**
+     * @return Keys such that two properties are {@link #related} exactly when they have a key in common, e.g. to look
+     * up the related properties in a map instead of comparing with every property.
+     */
+    public static List<String> relationKeys(String property) {
+        if (property.startsWith("--")) {
+            return Collections.singletonList(property);
+        }
+        String word = "word " + property.substring(0, firstWordEnd(property));
+        String shorthand = shorthandOf(property);
+        return shorthand == null ? Collections.singletonList(word) : Arrays.asList(word, "shorthand " + shorthand);
+    }
+
+    //E.g. inset-block-start belongs to inset like top does
+    private static String shorthandOf(String property) {
+        String shorthand = OTHER_SHORTHANDS.get(property);
+        return shorthand != null ? shorthand : OTHER_SHORTHANDS.get(property.substring(0, firstWordEnd(property)));
+    }
+
+    private static int firstWordEnd(String property) {
+        int dash = property.indexOf('-');
+        return dash < 0 ? property.length() : dash;
+    }
+}
@@ -5,7 +5,9 @@ import java.util.Objects;
 public class VariableReference extends Expression {
 
 	public String name;
-	
+	//The assignment this reference is bound to by the Resolver, null when the variable is not defined
+	public VariableAssignment declaration;
+
 	public VariableReference(String name) {
 		super();
 		this.name = name;
@@ -1,6 +1,7 @@
 package nl.han.ica.icss.ast.literals;
 
 import nl.han.ica.icss.ast.Literal;
+import nl.han.ica.icss.ast.types.ExpressionType;
 
 import java.util.Objects;
 
@@ -11,6 +12,10 @@ public class ColorLiteral extends Literal {
         this.value = value;
     }
     @Override
+    public ExpressionType getType() {
+        return ExpressionType.COLOR;
+    }
+    @Override
     public String getNodeLabel() {
         return "Color literal (" + value + ")";
     }
@@ -1,6 +1,7 @@
 package nl.han.ica.icss.ast.literals;
 
 import nl.han.ica.icss.ast.Literal;
+import nl.han.ica.icss.ast.types.ExpressionType;
 
 import java.util.Objects;
 
@@ -14,6 +15,10 @@ public class PercentageLiteral extends Literal {
         this.value = Integer.parseInt(text.substring(0, text.length() - 1));
     }
     @Override
+    public ExpressionType getType() {
+        return ExpressionType.PERCENTAGE;
+    }
+    @Override
     public String getNodeLabel() {
         return "Percentage literal (" + value + ")";
     }
@@ -1,6 +1,7 @@
 package nl.han.ica.icss.ast.literals;
 
 import nl.han.ica.icss.ast.Literal;
+import nl.han.ica.icss.ast.types.ExpressionType;
 
 import java.util.Objects;
 
@@ -14,6 +15,10 @@ public class ScalarLiteral extends Literal {
         this.value = Integer.parseInt(text);
     }
     @Override
+    public ExpressionType getType() {
+        return ExpressionType.SCALAR;
+    }
+    @Override
     public String getNodeLabel() {
         return "Scalar literal (" + value + ")";
     }
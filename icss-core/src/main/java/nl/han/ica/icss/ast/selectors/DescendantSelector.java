@@ -0,0 +1,59 @@
+package nl.han.ica.icss.ast.selectors;
+
+import nl.han.ica.icss.ast.Selector;
+
+import java.util.Objects;
+
+/**
+ * Selects the elements matching the descendant selector inside an element matching the ancestor selector,
+ * e.g. <code>.menu a</code>. Created when nested rules are flattened.
+ *
+ * The ancestor is shared by every rule nested in the same rule, so creating one takes constant time
+ * however deep the nesting is. The text is only built when it is needed.
+ */
+public class DescendantSelector extends Selector {
+    public Selector ancestor;
+    public Selector descendant;
+
+    public DescendantSelector(Selector ancestor, Selector descendant) {
+        this.ancestor = ancestor;
+        this.descendant = descendant;
+    }
+
+    @Override
+    public String getNodeLabel() {
+        return "DescendantSelector " + toString();
+    }
+
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        appendTo(builder);
+        return builder.toString();
+    }
+
+    /**
+     * Appends the text of the selector without building the text of the ancestors first.
+     */
+    public void appendTo(StringBuilder builder) {
+        if (ancestor instanceof DescendantSelector) {
+            ((DescendantSelector) ancestor).appendTo(builder);
+        } else {
+            builder.append(ancestor);
+        }
+        builder.append(' ').append(descendant);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DescendantSelector that = (DescendantSelector) o;
+        return Objects.equals(ancestor, that.ancestor) &&
+                Objects.equals(descendant, that.descendant);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ancestor, descendant);
+    }
+}
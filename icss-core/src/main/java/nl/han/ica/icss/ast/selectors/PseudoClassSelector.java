@@ -0,0 +1,38 @@
+package nl.han.ica.icss.ast.selectors;
+
+import nl.han.ica.icss.ast.Selector;
+
+import java.util.Objects;
+
+/**
+ * A pseudo-class on its own, e.g. <code>:root</code>. Not part of ICSS, only created by transforms.
+ */
+public class PseudoClassSelector extends Selector {
+    public String pseudoClass;
+
+    public PseudoClassSelector(String pseudoClass) {
+        this.pseudoClass = pseudoClass;
+    }
+
+    public String getNodeLabel() {
+        return "PseudoClassSelector " + toString();
+    }
+    public String toString() {
+        return ":" + pseudoClass;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        PseudoClassSelector that = (PseudoClassSelector) o;
+        return Objects.equals(pseudoClass, that.pseudoClass);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(pseudoClass);
+    }
+}
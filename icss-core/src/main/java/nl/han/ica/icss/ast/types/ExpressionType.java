@@ -0,0 +1,16 @@
+package nl.han.ica.icss.ast.types;
+
+public enum ExpressionType {
+    PIXEL,
+    PERCENTAGE,
+    COLOR,
+    SCALAR,
+    UNDEFINED;
+
+    /**
+     * @return A single bit identifying this type, so a set of types fits in an int.
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+}
@@ -0,0 +1,167 @@
+package nl.han.ica.icss.build;
+
+import nl.han.ica.icss.Pipeline;
+import nl.han.ica.icss.generator.GzipCopyChannel;
+import nl.han.ica.icss.modules.ModuleCache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.zip.Deflater;
+
+/**
+ * Compiles ICSS files to CSS files, running each file through its own pipeline on the given executor.
+ */
+public class BatchCompiler {
+
+    private final Executor executor;
+    private boolean minified = false;
+    private boolean canonical = false;
+    private boolean customProperties = false;
+    private boolean removeOverridden = false;
+    private boolean mergeRules = false;
+    private boolean gzip = false;
+    private int gzipLevel = Deflater.BEST_COMPRESSION;
+
+    public BatchCompiler(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Writes minified CSS, with the selectors of selector lists sorted.
+     */
+    public void setMinified(boolean minified) {
+        this.minified = minified;
+    }
+
+    /**
+     * Writes declarations and values in a canonical order and form, with the selectors of selector lists sorted.
+     * @see Pipeline#setCanonical(boolean)
+     */
+    public void setCanonical(boolean canonical) {
+        this.canonical = canonical;
+    }
+
+    /**
+     * @see Pipeline#setCustomProperties(boolean)
+     */
+    public void setCustomProperties(boolean customProperties) {
+        this.customProperties = customProperties;
+    }
+
+    /**
+     * @see Pipeline#setRemoveOverridden(boolean)
+     */
+    public void setRemoveOverridden(boolean removeOverridden) {
+        this.removeOverridden = removeOverridden;
+    }
+
+    /**
+     * @see Pipeline#setMergeRules(boolean)
+     */
+    public void setMergeRules(boolean mergeRules) {
+        this.mergeRules = mergeRules;
+    }
+
+    /**
+     * Also writes a gzip-compressed copy of every CSS file, see {@link #gzipPathFor(Path)}.
+     */
+    public void setGzip(boolean gzip) {
+        this.gzip = gzip;
+    }
+
+    /**
+     * @see Pipeline#setGzipLevel(int)
+     * @throws IllegalArgumentException When the level is not a deflate level.
+     */
+    public void setGzipLevel(int gzipLevel) {
+        GzipCopyChannel.checkLevel(gzipLevel);
+        this.gzipLevel = gzipLevel;
+    }
+
+    /**
+     * Compiles all sources concurrently. The results are in the same order as the sources.
+     * @param sources The ICSS files to compile.
+     * @param targetFor Maps a source file to the CSS file it is compiled to.
+     */
+    public CompletableFuture<List<CompileResult>> compile(Collection<Path> sources, Function<Path, Path> targetFor) {
+        //One build shares its imported files
+        ModuleCache modules = new ModuleCache();
+        List<CompletableFuture<CompileResult>> futures = new ArrayList<>();
+        for (Path source : sources) {
+            futures.add(CompletableFuture.supplyAsync(() -> compileFile(source, targetFor.apply(source), modules), executor));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(ignored -> {
+            List<CompileResult> results = new ArrayList<>();
+            for (CompletableFuture<CompileResult> future : futures) {
+                results.add(future.join());
+            }
+            return results;
+        });
+    }
+
+    public CompileResult compileFile(Path source, Path target, ModuleCache modules) {
+        Pipeline pipeline = new Pipeline();
+        pipeline.setModuleCache(modules);
+        pipeline.setMinified(minified);
+        pipeline.setSortSelectors(minified || canonical);
+        pipeline.setCanonical(canonical);
+        pipeline.setCustomProperties(customProperties);
+        pipeline.setRemoveOverridden(removeOverridden);
+        pipeline.setMergeRules(mergeRules);
+        pipeline.setGzipLevel(gzipLevel);
+        List<String> errors = pipeline.getErrors();
+        try {
+            pipeline.parseFile(source);
+            if (errors.isEmpty() && pipeline.check() && pipeline.transform()) {
+                if (target.getParent() != null) {
+                    Files.createDirectories(target.getParent());
+                }
+                if (gzip) {
+                    pipeline.generate(target, gzipPathFor(target));
+                } else {
+                    pipeline.generate(target);
+                }
+            }
+        } catch (IOException e) {
+            errors.add("I/O error: " + e.getMessage());
+        } catch (RuntimeException e) {
+            errors.add("Internal error: " + e);
+        }
+        return new CompileResult(source, target, pipeline.getImportedPaths(),
+                Collections.unmodifiableList(new ArrayList<>(errors)));
+    }
+
+    /**
+     * Maps a source below sourceRoot to the same relative location below outputRoot, with a .css extension.
+     * When outputRoot is null the CSS file is placed next to the source.
+     */
+    public static Path cssPathFor(Path sourceRoot, Path outputRoot, Path source) {
+        String fileName = source.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String cssName = (dot > 0 ? fileName.substring(0, dot) : fileName) + ".css";
+        if (outputRoot == null) {
+            return source.resolveSibling(cssName);
+        }
+        Path relative = sourceRoot.relativize(source);
+        return outputRoot.resolve(relative).resolveSibling(cssName);
+    }
+
+    /**
+     * The gzip-compressed copy of a CSS file is next to it, with .gz added to the name.
+     */
+    public static Path gzipPathFor(Path target) {
+        return target.resolveSibling(target.getFileName() + ".gz");
+    }
+
+    public static boolean isIcssFile(Path path) {
+        return path.getFileName() != null && path.getFileName().toString().endsWith(".icss");
+    }
+}
@@ -0,0 +1,49 @@
+package nl.han.ica.icss.build;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * The outcome of compiling a single ICSS file to CSS.
+ */
+public class CompileResult {
+
+    private final Path source;
+    private final Path target;
+    private final List<Path> imports;
+    private final List<String> errors;
+
+    public CompileResult(Path source, Path target, List<Path> imports, List<String> errors) {
+        this.source = source;
+        this.target = target;
+        this.imports = imports;
+        this.errors = errors;
+    }
+
+    public Path getSource() {
+        return source;
+    }
+    public Path getTarget() {
+        return target;
+    }
+    /**
+     * @return The files the source imports, directly or indirectly.
+     */
+    public List<Path> getImports() {
+        return imports;
+    }
+    public List<String> getErrors() {
+        return errors;
+    }
+    public boolean isSuccess() {
+        return errors.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        if (isSuccess()) {
+            return source + " -> " + target;
+        }
+        return source + ": " + String.join(", ", errors);
+    }
+}
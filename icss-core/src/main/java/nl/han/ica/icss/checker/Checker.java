@@ -0,0 +1,154 @@
+package nl.han.ica.icss.checker;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import nl.han.ica.icss.ast.*;
+import nl.han.ica.icss.ast.operations.AddOperation;
+import nl.han.ica.icss.ast.operations.MultiplyOperation;
+import nl.han.ica.icss.ast.operations.SubtractOperation;
+import nl.han.ica.icss.ast.types.*;
+
+/**
+ * Checks the types of a stylesheet whose variable references are bound by the Resolver.
+ */
+public class Checker {
+
+    //Top-level nodes checked by one task in parallel mode
+    private static final int CHUNK_SIZE = 256;
+
+    private PropertyRegistry properties;
+
+    public Checker() {
+        this(PropertyRegistry.getDefault());
+    }
+
+    /**
+     * @param properties The properties that may be declared, with the types they accept.
+     */
+    public Checker(PropertyRegistry properties) {
+        this.properties = properties;
+    }
+
+    public void check(AST ast) {
+        checkSemantics(ast.root);
+    }
+
+    /**
+     * Checks the top-level rules of the stylesheet in parallel. The global variables are checked first, in order,
+     * so the type of every global is known before a rule refers to it.
+     * The errors end up on the same nodes as with {@link #check(AST)}, so AST.getErrors keeps the source order.
+     */
+    public void check(AST ast, ForkJoinPool pool) {
+        List<ASTNode> body = ast.root.body;
+        for (ASTNode node : body) {
+            if (node instanceof VariableAssignment) {
+                checkVariableAssignment((VariableAssignment) node);
+            }
+        }
+        pool.invoke(new CheckRules(body, 0, body.size()));
+    }
+
+    /**
+     * This method recursively goes through the ASTTree.
+     * Expressions are not visited here, inferExpressionType handles them in one pass.
+     * @param node The current node of the tree.
+     */
+    private void checkSemantics(ASTNode node) {
+        if (node instanceof VariableAssignment) {
+            checkVariableAssignment((VariableAssignment)node);
+        } else if (node instanceof Declaration) {
+            checkDeclarationSemantics((Declaration)node);
+        } else {
+            for (ASTNode child : node.getChildren()) {
+                checkSemantics(child);
+            }
+        }
+    }
+
+    private void checkVariableAssignment(VariableAssignment assignment) {
+        inferExpressionType(assignment.expression);
+    }
+
+    /**
+     * Infers the type of every node in the expression bottom-up, checking each operation once on the way.
+     * The types are stored on the nodes, so nothing has to be computed twice.
+     */
+    private ExpressionType inferExpressionType(Expression expression) {
+        ExpressionType type;
+        if (expression instanceof Literal) {
+            return expression.getType();
+        } else if (expression instanceof Operation) {
+            Operation operation = (Operation) expression;
+            ExpressionType lhsType = inferExpressionType(operation.lhs);
+            ExpressionType rhsType = inferExpressionType(operation.rhs);
+            checkExpressionOperationSemantics(operation, lhsType, rhsType);
+            type = lhsType == ExpressionType.SCALAR ? rhsType : lhsType;
+        } else {
+            //Assignments come before their references, so the type of the assigned expression is already known
+            VariableReference reference = (VariableReference) expression;
+            type = reference.declaration == null ? ExpressionType.UNDEFINED : reference.declaration.expression.getType();
+        }
+        expression.setType(type);
+        return type;
+    }
+
+    private void checkExpressionOperationSemantics(Operation expression, ExpressionType lhsType, ExpressionType rhsType) {
+        if (lhsType == ExpressionType.COLOR || rhsType == ExpressionType.COLOR) {
+            expression.setError("An equation cannot contain a color.");
+        } else {
+            if (expression instanceof AddOperation || expression instanceof SubtractOperation) {
+
+                if (lhsType != rhsType) {
+                    expression.setError("The types have to be equal to each other when adding or subtracting.");
+                }
+            } else if (expression instanceof MultiplyOperation) {
+                if (lhsType != ExpressionType.SCALAR & rhsType != ExpressionType.SCALAR) {
+                    expression.setError("Multiplying requires one scalar type in the equation.");
+                }
+            }
+        }
+    }
+
+    private void checkDeclarationSemantics(Declaration declaration) {
+        ExpressionType expressionType = inferExpressionType(declaration.expression);
+        int allowedTypes = properties.getAllowedTypes(declaration.property.name);
+        if (allowedTypes == 0) {
+            declaration.property.setError("Unknown property '" + declaration.property.name + "'");
+        } else if ((allowedTypes & expressionType.mask()) == 0) {
+            declaration.setError("An expression with the type of '" + expressionType
+             + "' is not allowed on the " + declaration.property.name + " property");
+        }
+    }
+
+    /**
+     * Checks the top-level rules in a range of the stylesheet, splitting the range in half until it is small enough.
+     * The global variables in the range are skipped, they are checked before the rules.
+     */
+    private class CheckRules extends RecursiveAction {
+        private final List<ASTNode> body;
+        private final int from;
+        private final int to;
+
+        CheckRules(List<ASTNode> body, int from, int to) {
+            this.body = body;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > CHUNK_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new CheckRules(body, from, middle), new CheckRules(body, middle, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                if (!(body.get(i) instanceof VariableAssignment)) {
+                    checkSemantics(body.get(i));
+                }
+            }
+        }
+    }
+}
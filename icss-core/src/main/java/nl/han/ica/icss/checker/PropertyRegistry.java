@@ -0,0 +1,123 @@
+package nl.han.ica.icss.checker;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import nl.han.ica.icss.ast.types.ExpressionType;
+
+/**
+ * The CSS properties the checker knows, with the expression types each of them accepts.
+ *
+ * The allowed types of a property are stored as a bitmask of {@link ExpressionType#mask()}, in an open addressing
+ * table that is filled once and never changed afterwards, so one registry can be shared by all checkers and threads.
+ */
+public class PropertyRegistry {
+
+    private static final String DEFAULT_RESOURCE = "properties.txt";
+
+    private final String[] names;
+    private final int[] allowedTypes;
+    private final int tableMask;
+
+    /**
+     * @param properties The allowed type mask per property name.
+     */
+    public PropertyRegistry(Map<String, Integer> properties) {
+        //At most half full, so probe chains stay short
+        int capacity = Integer.highestOneBit(Math.max(properties.size(), 1) * 2) * 2;
+        names = new String[capacity];
+        allowedTypes = new int[capacity];
+        tableMask = capacity - 1;
+        for (Map.Entry<String, Integer> property : properties.entrySet()) {
+            int slot = slotOf(property.getKey());
+            names[slot] = property.getKey();
+            allowedTypes[slot] = property.getValue();
+        }
+    }
+
+    /**
+     * @return The registry with the properties bundled with the compiler.
+     */
+    public static PropertyRegistry getDefault() {
+        return DefaultHolder.instance;
+    }
+
+    /**
+     * Reads a registry from lines like "width: PERCENTAGE | PIXEL". Empty lines and lines starting with # are skipped.
+     */
+    public static PropertyRegistry load(InputStream in) throws IOException {
+        Map<String, Integer> properties = new LinkedHashMap<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int colon = line.indexOf(':');
+            if (colon <= 0) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": expected '<property>: <types>'");
+            }
+            int mask = 0;
+            for (String type : line.substring(colon + 1).split("\\|")) {
+                try {
+                    mask |= ExpressionType.valueOf(type.trim()).mask();
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Line " + lineNumber + ": unknown type '" + type.trim() + "'");
+                }
+            }
+            properties.put(line.substring(0, colon).trim(), mask);
+        }
+        return new PropertyRegistry(properties);
+    }
+
+    public boolean isKnown(String property) {
+        return names[slotOf(property)] != null;
+    }
+
+    /**
+     * @return The mask of the types allowed on the property, 0 when the property is unknown.
+     */
+    public int getAllowedTypes(String property) {
+        return allowedTypes[slotOf(property)];
+    }
+
+    public boolean allows(String property, ExpressionType type) {
+        return (getAllowedTypes(property) & type.mask()) != 0;
+    }
+
+    /**
+     * @return The slot holding the property, or the empty slot where it would go.
+     */
+    private int slotOf(String property) {
+        int hash = property.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & tableMask;
+        while (names[slot] != null && !names[slot].equals(property)) {
+            slot = (slot + 1) & tableMask;
+        }
+        return slot;
+    }
+
+    private static class DefaultHolder {
+        private static final PropertyRegistry instance = loadDefault();
+
+        private static PropertyRegistry loadDefault() {
+            try (InputStream in = PropertyRegistry.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+                if (in == null) {
+                    throw new IllegalStateException("Missing resource " + DEFAULT_RESOURCE);
+                }
+                return load(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
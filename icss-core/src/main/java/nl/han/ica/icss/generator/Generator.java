@@ -0,0 +1,318 @@
+package nl.han.ica.icss.generator;
+
+import nl.han.ica.icss.ast.*;
+import nl.han.ica.icss.ast.literals.ColorLiteral;
+import nl.han.ica.icss.ast.literals.PercentageLiteral;
+import nl.han.ica.icss.ast.literals.PixelLiteral;
+import nl.han.ica.icss.ast.literals.ScalarLiteral;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+
+/**
+ * Writes the CSS for a transformed AST: every rule is a top-level rule and every expression a literal or a custom
+ * property reference.
+ *
+ * The CSS is written to the output while the AST is visited, so a large stylesheet is never held in memory as text.
+ * Minified output leaves out all whitespace and the last semicolon of each rule, and writes the shortest form of
+ * colors and zero lengths, so no separate minifier has to parse the CSS again.
+ */
+public class Generator {
+
+    private static final String INDENT = "  ";
+    //Top-level rules generated by one task when generating in parallel
+    private static final int RULES_PER_CHUNK = 512;
+    private boolean minified = false;
+    private boolean sortSelectors = false;
+    private boolean canonical = false;
+
+    /**
+     * Writes the CSS without whitespace and with the shortest form of the values.
+     */
+    public void setMinified(boolean minified) {
+        this.minified = minified;
+    }
+
+    /**
+     * Writes the selectors of a selector list in alphabetical order, without duplicates. The order of a selector list
+     * does not matter, but the same order makes the same lists repeat, which compresses better.
+     */
+    public void setSortSelectors(boolean sortSelectors) {
+        this.sortSelectors = sortSelectors;
+    }
+
+    /**
+     * Writes the declarations of each rule ordered by property name, as far as the cascade allows, and colors in lower
+     * case. Rules with the same declarations then come out as the same text whatever order they were written in,
+     * which compresses better.
+     */
+    public void setCanonical(boolean canonical) {
+        this.canonical = canonical;
+    }
+
+    public String generate(AST ast) {
+        StringBuilder css = new StringBuilder();
+        try {
+            generate(ast, css);
+        } catch (IOException e) {
+            //A StringBuilder does not throw
+            throw new UncheckedIOException(e);
+        }
+        return css.toString();
+    }
+
+    /**
+     * Writes the CSS as UTF-8 to the channel, encoding it straight into pooled buffers. The channel is not closed.
+     */
+    public void generate(AST ast, WritableByteChannel channel) throws IOException {
+        try (Utf8Output out = new Utf8Output(channel)) {
+            generate(ast, out);
+            out.flush();
+        }
+    }
+
+    /**
+     * Appends the CSS to the output, e.g. a buffered Writer. The output is not flushed.
+     */
+    public void generate(AST ast, Appendable out) throws IOException {
+        generateRules(ast.root.body, 0, ast.root.body.size(), firstRule(ast.root.body), out);
+    }
+
+    /**
+     * Generates chunks of top-level rules in parallel on the pool and appends them in order, so the output is the
+     * same as when the rules are generated one by one. Each chunk is appended as soon as it and the chunks before it
+     * are done.
+     */
+    public void generate(AST ast, Appendable out, ForkJoinPool pool) throws IOException {
+        List<ASTNode> body = ast.root.body;
+        if (body.size() <= RULES_PER_CHUNK) {
+            generate(ast, out);
+            return;
+        }
+        List<ForkJoinTask<StringBuilder>> chunks = generateChunks(body, pool, StringBuilder::new);
+        for (ForkJoinTask<StringBuilder> chunk : chunks) {
+            out.append(chunk.join());
+        }
+    }
+
+    /**
+     * Generates chunks of top-level rules in parallel on the pool, each encoded to UTF-8 in its own buffers, and
+     * writes the buffers to the channel in order. A gathering channel gets all buffers in one write.
+     * The channel is not closed.
+     */
+    public void generate(AST ast, WritableByteChannel channel, ForkJoinPool pool) throws IOException {
+        List<ASTNode> body = ast.root.body;
+        if (body.size() <= RULES_PER_CHUNK) {
+            generate(ast, channel);
+            return;
+        }
+        List<ForkJoinTask<Utf8Output>> chunks = generateChunks(body, pool, Utf8Output::new);
+        try {
+            List<ByteBuffer> filled = new ArrayList<>();
+            for (ForkJoinTask<Utf8Output> chunk : chunks) {
+                filled.addAll(Arrays.asList(chunk.join().getBuffers()));
+            }
+            write(filled.toArray(new ByteBuffer[0]), channel);
+        } finally {
+            //Joining a failed chunk would throw again and leave the other buffers out of the pool
+            for (ForkJoinTask<Utf8Output> chunk : chunks) {
+                if (chunk.isCompletedNormally()) {
+                    chunk.join().close();
+                }
+            }
+        }
+    }
+
+    private void write(ByteBuffer[] buffers, WritableByteChannel channel) throws IOException {
+        if (channel instanceof GatheringByteChannel) {
+            GatheringByteChannel gathering = (GatheringByteChannel) channel;
+            //A write may stop early, continue from the first buffer that is not written completely
+            int offset = 0;
+            while (offset < buffers.length) {
+                gathering.write(buffers, offset, buffers.length - offset);
+                while (offset < buffers.length && !buffers[offset].hasRemaining()) {
+                    offset++;
+                }
+            }
+        } else {
+            for (ByteBuffer buffer : buffers) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        }
+    }
+
+    /**
+     * Submits a task for every chunk of rules that generates the chunk into a new output.
+     */
+    private <T extends Appendable> List<ForkJoinTask<T>> generateChunks(List<ASTNode> body, ForkJoinPool pool,
+                                                                        Supplier<T> newOutput) {
+        int firstRule = firstRule(body);
+        List<ForkJoinTask<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < body.size(); from += RULES_PER_CHUNK) {
+            int chunkFrom = from;
+            int chunkTo = Math.min(body.size(), from + RULES_PER_CHUNK);
+            chunks.add(pool.submit(() -> {
+                T chunk = newOutput.get();
+                generateRules(body, chunkFrom, chunkTo, firstRule, chunk);
+                return chunk;
+            }));
+        }
+        return chunks;
+    }
+
+    /*
+     Every rule but the first one is preceded by a blank line. Chunks need to know which rule is the first,
+     because the body can start with variable assignments and imports.
+     */
+    private int firstRule(List<ASTNode> body) {
+        for (int i = 0; i < body.size(); i++) {
+            if (body.get(i) instanceof Stylerule) {
+                return i;
+            }
+        }
+        return body.size();
+    }
+
+    private void generateRules(List<ASTNode> body, int from, int to, int firstRule, Appendable out) throws IOException {
+        for (int i = from; i < to; i++) {
+            ASTNode node = body.get(i);
+            if (node instanceof Stylerule) {
+                if (i != firstRule && !minified) {
+                    out.append('\n');
+                }
+                generateRule((Stylerule) node, out);
+            }
+        }
+    }
+
+    private void generateRule(Stylerule rule, Appendable out) throws IOException {
+        generateSelectors(rule.selectors, out);
+        out.append(minified ? "{" : " {\n");
+        boolean first = true;
+        for (ASTNode child : canonical ? canonicalOrder(rule.body) : rule.body) {
+            if (child instanceof Declaration) {
+                Declaration declaration = (Declaration) child;
+                if (minified) {
+                    //The semicolon separates declarations, the last one does not need it
+                    if (!first) {
+                        out.append(';');
+                    }
+                    out.append(declaration.property.name).append(':');
+                    generateValue(declaration.expression, out);
+                } else {
+                    out.append(INDENT).append(declaration.property.name).append(": ");
+                    generateValue(declaration.expression, out);
+                    out.append(";\n");
+                }
+                first = false;
+            }
+        }
+        out.append(minified ? "}" : "}\n");
+    }
+
+    /*
+     A stable insertion sort by property name that only swaps neighbours that are not related, so every step keeps
+     the meaning of the rule. A longhand that follows its shorthand stays after it, the rest ends up in order.
+     */
+    private static List<ASTNode> canonicalOrder(List<ASTNode> body) {
+        ASTNode[] sorted = body.toArray(new ASTNode[0]);
+        for (int i = 1; i < sorted.length; i++) {
+            ASTNode node = sorted[i];
+            if (!(node instanceof Declaration)) {
+                continue;
+            }
+            String name = ((Declaration) node).property.name;
+            int j = i;
+            while (j > 0 && sorted[j - 1] instanceof Declaration) {
+                String before = ((Declaration) sorted[j - 1]).property.name;
+                if (before.compareTo(name) <= 0 || PropertyName.related(before, name)) {
+                    break;
+                }
+                sorted[j] = sorted[j - 1];
+                j--;
+            }
+            sorted[j] = node;
+        }
+        return Arrays.asList(sorted);
+    }
+
+    private void generateSelectors(List<Selector> selectors, Appendable out) throws IOException {
+        if (selectors.size() == 1) {
+            out.append(selectors.get(0).toString());
+            return;
+        }
+        String[] texts = new String[selectors.size()];
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = selectors.get(i).toString();
+        }
+        if (sortSelectors) {
+            Arrays.sort(texts);
+        }
+        String separator = minified ? "," : ", ";
+        for (int i = 0; i < texts.length; i++) {
+            if (sortSelectors && i > 0 && texts[i].equals(texts[i - 1])) {
+                continue;
+            }
+            if (i > 0) {
+                out.append(separator);
+            }
+            out.append(texts[i]);
+        }
+    }
+
+    private void generateValue(Expression expression, Appendable out) throws IOException {
+        if (expression instanceof PixelLiteral) {
+            int value = ((PixelLiteral) expression).value;
+            appendInt(value, out);
+            //Zero is zero in every length unit
+            if (value != 0 || !minified) {
+                out.append("px");
+            }
+        } else if (expression instanceof PercentageLiteral) {
+            appendInt(((PercentageLiteral) expression).value, out);
+            out.append('%');
+        } else if (expression instanceof ColorLiteral) {
+            String color = ((ColorLiteral) expression).value;
+            out.append(minified ? shortestColor(color) : canonical ? color.toLowerCase(Locale.ROOT) : color);
+        } else if (expression instanceof ScalarLiteral) {
+            appendInt(((ScalarLiteral) expression).value, out);
+        } else if (expression instanceof CustomPropertyReference) {
+            out.append("var(--").append(((CustomPropertyReference) expression).name).append(')');
+        } else {
+            throw new IllegalArgumentException("Expressions have to be evaluated before generating, found " +
+                    expression.getNodeLabel());
+        }
+    }
+
+    private void appendInt(int value, Appendable out) throws IOException {
+        if (out instanceof Utf8Output) {
+            ((Utf8Output) out).appendInt(value);
+        } else {
+            out.append(Integer.toString(value));
+        }
+    }
+
+    /*
+     #aabbcc can be written as #abc. Colors are not case sensitive, lower case repeats more and compresses better.
+     */
+    static String shortestColor(String color) {
+        String lower = color.toLowerCase(Locale.ROOT);
+        if (lower.length() == 7 && lower.charAt(1) == lower.charAt(2) && lower.charAt(3) == lower.charAt(4)
+                && lower.charAt(5) == lower.charAt(6)) {
+            return new String(new char[] {'#', lower.charAt(1), lower.charAt(3), lower.charAt(5)});
+        }
+        return lower;
+    }
+}
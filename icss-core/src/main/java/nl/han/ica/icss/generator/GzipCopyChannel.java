@@ -0,0 +1,80 @@
+package nl.han.ica.icss.generator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes everything to a channel and a gzip-compressed copy of it to a stream. The copy is compressed while the
+ * output is written, e.g. for a server that sends file.css.gz when it exists, so the output never has to be read
+ * again to compress it.
+ */
+public class GzipCopyChannel implements WritableByteChannel {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final WritableByteChannel channel;
+    private final GZIPOutputStream gzip;
+
+    /**
+     * @param level The deflate level, from 1 (fastest) to 9 (smallest), or -1 for the default level.
+     * @throws IllegalArgumentException When the level is not a deflate level.
+     */
+    public GzipCopyChannel(WritableByteChannel channel, OutputStream compressed, int level) throws IOException {
+        checkLevel(level);
+        this.channel = channel;
+        this.gzip = new GZIPOutputStream(compressed, BUFFER_SIZE) {
+            {
+                def.setLevel(level);
+            }
+        };
+    }
+
+    /**
+     * @throws IllegalArgumentException When the level is not a deflate level.
+     */
+    public static void checkLevel(int level) {
+        if (level != Deflater.DEFAULT_COMPRESSION && (level < Deflater.BEST_SPEED || level > Deflater.BEST_COMPRESSION)) {
+            throw new IllegalArgumentException("The gzip level has to be from 1 to 9, or -1 for the default, not "
+                    + level);
+        }
+    }
+
+    @Override
+    public int write(ByteBuffer source) throws IOException {
+        int start = source.position();
+        int written = channel.write(source);
+        //Only the bytes the channel took, the rest is written again later
+        if (source.hasArray()) {
+            gzip.write(source.array(), source.arrayOffset() + start, written);
+        } else {
+            byte[] bytes = new byte[written];
+            ByteBuffer copy = source.duplicate();
+            ((Buffer) copy).position(start);
+            copy.get(bytes);
+            gzip.write(bytes);
+        }
+        return written;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    /**
+     * Finishes the compressed copy, then closes the stream and the channel.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            gzip.close();
+        } finally {
+            channel.close();
+        }
+    }
+}
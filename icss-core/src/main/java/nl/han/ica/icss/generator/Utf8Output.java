@@ -0,0 +1,248 @@
+package nl.han.ica.icss.generator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Encodes appended text as UTF-8 straight into byte buffers, without building a String or char array first.
+ *
+ * CSS is nearly all ASCII, which is copied byte for byte. With a channel, a full buffer is written and reused.
+ * Without one the buffers are kept, e.g. to gather the chunks of a parallel generation into one write.
+ * The buffers come from a shared pool, close returns them. They are heap buffers: the bytes are put in the
+ * backing array, which is a lot cheaper per byte than putting them in a direct buffer.
+ */
+public class Utf8Output implements Appendable, Closeable {
+
+    static final int BUFFER_SIZE = 64 * 1024;
+    //Keeps at most 4 MB of buffers around for the next outputs
+    private static final int MAX_POOLED_BUFFERS = 64;
+    private static final ConcurrentLinkedQueue<ByteBuffer> pool = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger pooledBuffers = new AtomicInteger();
+
+    private final WritableByteChannel channel;
+    private final List<ByteBuffer> filled = new ArrayList<>();
+    private ByteBuffer buffer = acquire();
+    //The backing array of the buffer and the next free position in it
+    private byte[] bytes = buffer.array();
+    private int position;
+    //The first half of a surrogate pair that was appended on its own
+    private char highSurrogate;
+    private final byte[] digits = new byte[11];
+
+    /**
+     * @param channel Receives the bytes whenever a buffer is full and on flush. It is not closed.
+     */
+    public Utf8Output(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Keeps all bytes in buffers until {@link #getBuffers()}.
+     */
+    public Utf8Output() {
+        this.channel = null;
+    }
+
+    @Override
+    public Utf8Output append(CharSequence text) throws IOException {
+        return append(text, 0, text.length());
+    }
+
+    @Override
+    public Utf8Output append(CharSequence text, int start, int end) throws IOException {
+        int i = start;
+        while (i < end) {
+            if (highSurrogate != 0 || text.charAt(i) >= 0x80) {
+                encode(text.charAt(i++));
+                continue;
+            }
+            if (position == bytes.length) {
+                next();
+            }
+            //ASCII fast path: copy until the buffer is full or a character needs more than one byte
+            int stop = Math.min(end, i + bytes.length - position);
+            char c;
+            while (i < stop && (c = text.charAt(i)) < 0x80) {
+                bytes[position++] = (byte) c;
+                i++;
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public Utf8Output append(char c) throws IOException {
+        if (c < 0x80 && highSurrogate == 0) {
+            if (position == bytes.length) {
+                next();
+            }
+            bytes[position++] = (byte) c;
+        } else {
+            encode(c);
+        }
+        return this;
+    }
+
+    /**
+     * Appends the decimal digits of the value without creating a String.
+     */
+    public Utf8Output appendInt(int value) throws IOException {
+        endSurrogate();
+        if (value == Integer.MIN_VALUE) {
+            //Can not be negated
+            return append("-2147483648");
+        }
+        int start = digits.length;
+        int remaining = Math.abs(value);
+        do {
+            digits[--start] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        if (value < 0) {
+            digits[--start] = '-';
+        }
+        ensure(digits.length - start);
+        System.arraycopy(digits, start, bytes, position, digits.length - start);
+        position += digits.length - start;
+        return this;
+    }
+
+    /**
+     * Writes the bytes appended so far to the channel.
+     */
+    public void flush() throws IOException {
+        endSurrogate();
+        if (channel != null) {
+            ready(buffer, position);
+            write(buffer);
+            position = 0;
+        }
+    }
+
+    /**
+     * @return The bytes appended so far, ready to be written, when there is no channel. Ends the output:
+     * nothing can be appended afterwards, and the buffers stay valid until close.
+     */
+    public ByteBuffer[] getBuffers() throws IOException {
+        endSurrogate();
+        ready(buffer, position);
+        filled.add(buffer);
+        buffer = null;
+        return filled.toArray(new ByteBuffer[0]);
+    }
+
+    /**
+     * Returns the buffers to the pool, without flushing.
+     */
+    @Override
+    public void close() {
+        for (ByteBuffer full : filled) {
+            release(full);
+        }
+        filled.clear();
+        if (buffer != null) {
+            release(buffer);
+            buffer = null;
+        }
+    }
+
+    private void encode(char c) throws IOException {
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                ensure(4);
+                bytes[position++] = (byte) (0xf0 | codePoint >> 18);
+                bytes[position++] = (byte) (0x80 | codePoint >> 12 & 0x3f);
+                bytes[position++] = (byte) (0x80 | codePoint >> 6 & 0x3f);
+                bytes[position++] = (byte) (0x80 | codePoint & 0x3f);
+                return;
+            }
+            //A surrogate without its other half can not be encoded, like String.getBytes
+            append('?');
+        }
+        if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            append('?');
+        } else if (c < 0x80) {
+            append(c);
+        } else if (c < 0x800) {
+            ensure(2);
+            bytes[position++] = (byte) (0xc0 | c >> 6);
+            bytes[position++] = (byte) (0x80 | c & 0x3f);
+        } else {
+            ensure(3);
+            bytes[position++] = (byte) (0xe0 | c >> 12);
+            bytes[position++] = (byte) (0x80 | c >> 6 & 0x3f);
+            bytes[position++] = (byte) (0x80 | c & 0x3f);
+        }
+    }
+
+    //A high surrogate that is still waiting when something else is written never gets its other half
+    private void endSurrogate() throws IOException {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            append('?');
+        }
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (this.bytes.length - position < bytes) {
+            next();
+        }
+    }
+
+    private void next() throws IOException {
+        if (channel != null) {
+            flush();
+        } else {
+            ready(buffer, position);
+            filled.add(buffer);
+            buffer = acquire();
+            bytes = buffer.array();
+            position = 0;
+        }
+    }
+
+    /*
+     Makes the first bytes of the buffer ready to be written. Through Buffer, because ByteBuffer only overrides
+     limit and position since Java 9, and calls compiled against those do not run on Java 8.
+     */
+    private static void ready(ByteBuffer buffer, int length) {
+        ((Buffer) buffer).limit(length);
+        ((Buffer) buffer).position(0);
+    }
+
+    private void write(ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    private static ByteBuffer acquire() {
+        ByteBuffer pooled = pool.poll();
+        if (pooled == null) {
+            return ByteBuffer.allocate(BUFFER_SIZE);
+        }
+        pooledBuffers.decrementAndGet();
+        return pooled;
+    }
+
+    private static void release(ByteBuffer buffer) {
+        if (pooledBuffers.incrementAndGet() <= MAX_POOLED_BUFFERS) {
+            ((Buffer) buffer).clear();
+            pool.offer(buffer);
+        } else {
+            pooledBuffers.decrementAndGet();
+        }
+    }
+}
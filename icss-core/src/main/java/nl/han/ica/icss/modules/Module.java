@@ -0,0 +1,73 @@
+package nl.han.ica.icss.modules;
+
+import nl.han.ica.icss.ast.Literal;
+import nl.han.ica.icss.ast.types.ExpressionType;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A checked and evaluated ICSS file that can be imported.
+ *
+ * Its global variable scope is shared by every file that imports it, so it can not be changed.
+ */
+public class Module {
+
+    private final Path path;
+    private final String contentHash;
+    private final Map<String, ExpressionType> variableTypes;
+    private final Map<String, Literal> variableValues;
+    private final List<Path> dependencies;
+    private final List<String> errors;
+
+    Module(Path path, String contentHash, Map<String, ExpressionType> variableTypes,
+           Map<String, Literal> variableValues, List<Path> dependencies, List<String> errors) {
+        this.path = path;
+        this.contentHash = contentHash;
+        this.variableTypes = Collections.unmodifiableMap(variableTypes);
+        this.variableValues = Collections.unmodifiableMap(variableValues);
+        this.dependencies = Collections.unmodifiableList(dependencies);
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    static Module failed(Path path, String contentHash, List<String> errors) {
+        return new Module(path, contentHash, Collections.emptyMap(), Collections.emptyMap(),
+                Collections.emptyList(), errors);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    /**
+     * @return The types of the global variables, including those of the files this module imports.
+     */
+    public Map<String, ExpressionType> getVariableTypes() {
+        return variableTypes;
+    }
+
+    /**
+     * @return The values of the global variables, including those of the files this module imports.
+     */
+    public Map<String, Literal> getVariableValues() {
+        return variableValues;
+    }
+
+    /**
+     * @return All files this module imports, directly or indirectly.
+     */
+    public List<Path> getDependencies() {
+        return dependencies;
+    }
+    public List<String> getErrors() {
+        return errors;
+    }
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+}
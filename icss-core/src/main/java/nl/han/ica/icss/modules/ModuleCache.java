@@ -0,0 +1,222 @@
+package nl.han.ica.icss.modules;
+
+import nl.han.ica.icss.Pipeline;
+import nl.han.ica.icss.ast.ASTNode;
+import nl.han.ica.icss.ast.Import;
+import nl.han.ica.icss.ast.Literal;
+import nl.han.ica.icss.ast.VariableAssignment;
+import nl.han.ica.icss.build.ContentHash;
+import nl.han.ica.icss.checker.SemanticError;
+import nl.han.ica.icss.transforms.EvalExpressions;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Loads imported ICSS files. Every file is read, parsed and checked at most once per cache, so one cache
+ * should be used for one build, or replaced once it is no longer {@link #isUpToDate() up to date}.
+ * The cache can be shared by pipelines running in parallel.
+ */
+public class ModuleCache {
+
+    private final ConcurrentHashMap<Path, CompletableFuture<Source>> sources = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CompletableFuture<Module>> modules = new ConcurrentHashMap<>();
+    private final Path root;
+
+    public ModuleCache() {
+        this(null);
+    }
+
+    /**
+     * A cache that only loads files in the root directory or below it, importing any other file fails.
+     * @param root The directory, or null to load any file.
+     */
+    public ModuleCache(Path root) {
+        this.root = root == null ? null : root.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Loads the file at the given path.
+     * @param path The file to load.
+     * @param importer The file that imports it, used to detect import cycles. Can be null.
+     */
+    public Module load(Path path, Path importer) {
+        Path file = path.toAbsolutePath().normalize();
+        if (!isAllowed(file)) {
+            return Module.failed(file, null, Collections.singletonList(
+                    "'" + file.getFileName() + "' is outside of the import directory"));
+        }
+        if (importer != null && reaches(file, importer.toAbsolutePath().normalize(), new HashSet<>())) {
+            // Refusing the import that closes the cycle also guarantees that no thread waits for a module that waits for it
+            return Module.failed(file, null, Collections.singletonList(
+                    "Import cycle: '" + file.getFileName() + "' (indirectly) imports '" + importer.getFileName() + "'"));
+        }
+        Source source = source(file);
+        return once(modules, file + "#" + source.hash, key -> build(file, source));
+    }
+
+    /**
+     * Resolves the path of an import statement relative to the file it is written in.
+     * @param importer The file containing the import, or null to resolve against the working directory.
+     */
+    public static Path resolve(Path importer, String importPath) {
+        Path parent = importer == null ? null : importer.toAbsolutePath().getParent();
+        Path resolved = parent == null ? Paths.get(importPath) : parent.resolve(importPath);
+        return resolved.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Hashes the content the file has now, to find out whether a module loaded from it is still up to date.
+     * @return The hash, or null when the file can not be loaded.
+     */
+    public String currentHash(Path path) {
+        Path file = path.toAbsolutePath().normalize();
+        if (!isAllowed(file)) {
+            return null;
+        }
+        try {
+            return ContentHash.sha256(Files.readAllBytes(file));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads every file loaded so far again, for a cache that outlives a build.
+     * @return Whether all of them still have the content they were loaded from.
+     */
+    public boolean isUpToDate() {
+        for (Map.Entry<Path, CompletableFuture<Source>> source : sources.entrySet()) {
+            //A file that is still being read is as new as it gets
+            Source loaded = source.getValue().getNow(null);
+            if (loaded != null && !Objects.equals(loaded.hash, currentHash(source.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //Links are followed, so a link in the root can not point outside of it
+    private boolean isAllowed(Path file) {
+        if (root == null) {
+            return true;
+        }
+        if (!file.startsWith(root)) {
+            return false;
+        }
+        try {
+            return !Files.exists(file) || file.toRealPath().startsWith(root.toRealPath());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private Module build(Path file, Source source) {
+        if (source.error != null) {
+            return Module.failed(file, source.hash, Collections.singletonList(source.error));
+        }
+        Pipeline pipeline = source.pipeline;
+        if (pipeline.getErrors().isEmpty()) {
+            pipeline.check();
+        }
+        if (!pipeline.getErrors().isEmpty()) {
+            return Module.failed(file, source.hash, new ArrayList<>(pipeline.getErrors()));
+        }
+
+        EvalExpressions evaluator = new EvalExpressions();
+        evaluator.apply(pipeline.getAST());
+        if (!evaluator.getErrors().isEmpty()) {
+            List<String> errors = new ArrayList<>();
+            for (SemanticError error : evaluator.getErrors()) {
+                errors.add(error.toString());
+            }
+            return Module.failed(file, source.hash, errors);
+        }
+        Map<String, Literal> values = new HashMap<>();
+        for (VariableAssignment variable : pipeline.getResolver().getGlobalVariables().values()) {
+            values.put(variable.name.name, (Literal) variable.expression);
+        }
+        return new Module(file, source.hash, new HashMap<>(pipeline.getGlobalVariableTypes()),
+                values, pipeline.getImportedPaths(), Collections.emptyList());
+    }
+
+    private boolean reaches(Path from, Path target, Set<Path> visited) {
+        if (from.equals(target)) {
+            return true;
+        }
+        if (!visited.add(from)) {
+            return false;
+        }
+        for (Path imported : source(from).imports) {
+            if (reaches(imported, target, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Source source(Path file) {
+        return once(sources, file, this::read);
+    }
+
+    private Source read(Path file) {
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file);
+        } catch (IOException e) {
+            return new Source(null, null, Collections.emptyList(), "Can not read imported file '" + file + "'");
+        }
+        Pipeline pipeline = new Pipeline();
+        pipeline.setModuleCache(this);
+        pipeline.setSourcePath(file);
+        pipeline.parseString(new String(content, StandardCharsets.UTF_8));
+
+        List<Path> imports = new ArrayList<>();
+        for (ASTNode node : pipeline.getAST().root.body) {
+            if (node instanceof Import) {
+                imports.add(resolve(file, ((Import) node).path));
+            }
+        }
+        return new Source(ContentHash.sha256(content), pipeline, imports, null);
+    }
+
+    /*
+     Computes the value for a key exactly once; concurrent callers for the same key wait for the first one.
+     The computation runs outside of the map's locks, because it loads other modules itself.
+     */
+    private static <K, V> V once(ConcurrentHashMap<K, CompletableFuture<V>> map, K key, Function<K, V> compute) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = map.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing.join();
+        }
+        try {
+            created.complete(compute.apply(key));
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        }
+        return created.join();
+    }
+
+    private static class Source {
+        final String hash;
+        final Pipeline pipeline;
+        final List<Path> imports;
+        final String error;
+
+        Source(String hash, Pipeline pipeline, List<Path> imports, String error) {
+            this.hash = hash;
+            this.pipeline = pipeline;
+            this.imports = imports;
+            this.error = error;
+        }
+    }
+}
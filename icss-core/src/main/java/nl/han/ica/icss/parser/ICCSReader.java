@@ -51,6 +51,17 @@ public class ICCSReader implements ICSSListener {
         }
 	}
 
+    @Override
+    public void enterImportStatement(ICSSParser.ImportStatementContext ctx) {
+        String text = ctx.STRING().getText();
+        // Strip the surrounding quotes
+        currentContainer.peek().addChild(new Import(text.substring(1, text.length() - 1)));
+    }
+
+    @Override
+    public void exitImportStatement(ICSSParser.ImportStatementContext ctx) {
+
+    }
 
     @Override
     public void enterStylerule(ICSSParser.StyleruleContext ctx) {
@@ -59,6 +70,10 @@ public class ICCSReader implements ICSSListener {
             currentContainer.pop();
             parent = currentContainer.peek();
         }
+        // A variable assignment is also a stylerule in the grammar, it is added to the parent by itself
+        if (ctx.selector() == null) {
+            return;
+        }
         ASTNode style = new Stylerule();
         parent.addChild(style);
         currentContainer.push(style);
@@ -67,7 +82,7 @@ public class ICCSReader implements ICSSListener {
     @Override
     public void exitStylerule(ICSSParser.StyleruleContext ctx) {
         ASTNode top = currentContainer.peek();
-        if (top instanceof Stylerule) {
+        if (ctx.selector() != null && top instanceof Stylerule) {
             currentContainer.pop();
         }
     }
@@ -78,9 +93,9 @@ public class ICCSReader implements ICSSListener {
         if (parent instanceof Stylerule) {
             ASTNode style;
             if (ctx.getText().startsWith("#")) {
-                style = new ClassSelector(ctx.getText());
-            } else if (ctx.getText().startsWith(".")) {
                 style = new IdSelector(ctx.getText());
+            } else if (ctx.getText().startsWith(".")) {
+                style = new ClassSelector(ctx.getText());
             } else {
                 style = new TagSelector(ctx.getText());
             }
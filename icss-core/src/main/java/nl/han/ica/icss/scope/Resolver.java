@@ -0,0 +1,136 @@
+package nl.han.ica.icss.scope;
+
+import nl.han.ica.icss.ast.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Binds every variable reference to the assignment it refers to, so later stages follow
+ * {@link VariableReference#declaration} instead of keeping track of scopes themselves.
+ *
+ * A reference to a variable that is not defined above it gets an error and stays unbound. Variables are defined
+ * in order, so the references always form an acyclic graph: a cycle between globals shows up as a reference to
+ * a variable that is defined further down, or to the variable that is being assigned.
+ */
+public class Resolver {
+
+    private final Map<String, Literal> importedVariableValues;
+    //The imported variables that were used, most imports of a large palette never are
+    private final Map<String, VariableAssignment> importedVariables = new HashMap<>();
+    private SymbolTable<VariableAssignment> variables;
+    private Map<VariableAssignment, List<VariableReference>> usages;
+    private List<VariableReference> undefinedReferences;
+    //Every global variable name, to tell a forward reference from an unknown variable
+    private Set<String> globalNames;
+    //The variable whose expression is being resolved
+    private String assigning;
+
+    public Resolver() {
+        this(Collections.emptyMap());
+    }
+
+    /**
+     * @param importedVariableValues The values of the global variables of the imported files.
+     */
+    public Resolver(Map<String, Literal> importedVariableValues) {
+        this.importedVariableValues = importedVariableValues;
+    }
+
+    public void resolve(AST ast) {
+        variables = new SymbolTable<>();
+        usages = new IdentityHashMap<>();
+        undefinedReferences = new ArrayList<>();
+        globalNames = new HashSet<>();
+        for (ASTNode node : ast.root.body) {
+            if (node instanceof VariableAssignment) {
+                globalNames.add(((VariableAssignment) node).name.name);
+            }
+        }
+        resolve(ast.root);
+    }
+
+    /**
+     * @return The global variables visible at the end of the stylesheet, including the imported ones.
+     */
+    public Map<String, VariableAssignment> getGlobalVariables() {
+        Map<String, VariableAssignment> globals = new LinkedHashMap<>();
+        for (String name : importedVariableValues.keySet()) {
+            globals.put(name, imported(name));
+        }
+        globals.putAll(variables.getBindings());
+        return Collections.unmodifiableMap(globals);
+    }
+
+    /**
+     * @return The references bound to the assignment, in source order.
+     */
+    public List<VariableReference> getUsages(VariableAssignment assignment) {
+        List<VariableReference> references = usages.get(assignment);
+        return references == null ? Collections.emptyList() : Collections.unmodifiableList(references);
+    }
+
+    public List<VariableReference> getUndefinedReferences() {
+        return Collections.unmodifiableList(undefinedReferences);
+    }
+
+    private void resolve(ASTNode node) {
+        if (node instanceof Stylerule && ((Stylerule)node).selectors.size() >= 1) {
+            variables.pushScope();
+        }
+
+        if (node instanceof VariableAssignment) {
+            //The expression can not see the variable it is assigned to
+            VariableAssignment assignment = (VariableAssignment) node;
+            assigning = assignment.name.name;
+            resolve(assignment.expression);
+            assigning = null;
+            variables.define(assignment.name.name, assignment);
+        } else if (node instanceof VariableReference) {
+            bind((VariableReference) node);
+        } else {
+            for (ASTNode child : node.getChildren()) {
+                resolve(child);
+            }
+        }
+
+        if (node instanceof Stylerule && ((Stylerule)node).selectors.size() >= 1) {
+            variables.popScope();
+        }
+    }
+
+    private VariableAssignment imported(String name) {
+        //Imported variables are bound to an assignment outside the AST that holds their value
+        return importedVariables.computeIfAbsent(name, key -> (VariableAssignment) new VariableAssignment()
+                .addChild(new VariableReference(key))
+                .addChild(importedVariableValues.get(key)));
+    }
+
+    private void bind(VariableReference reference) {
+        reference.declaration = variables.lookup(reference.name);
+        if (reference.declaration == null && importedVariableValues.containsKey(reference.name)) {
+            //Any definition in the file shadows the import, so it is only the binding when nothing else is
+            reference.declaration = imported(reference.name);
+        }
+        if (reference.declaration == null) {
+            if (reference.name.equals(assigning)) {
+                reference.setError("Variable '" + reference.name + "' is defined in terms of itself!");
+            } else if (globalNames.contains(reference.name)) {
+                //Globals are evaluated in order, so a global that depends on a later one can never be computed
+                reference.setError("Variable '" + reference.name + "' is used before it is defined!");
+            } else {
+                reference.setError("Variable '" + reference.name + "' not defined!");
+            }
+            undefinedReferences.add(reference);
+        } else {
+            usages.computeIfAbsent(reference.declaration, assignment -> new ArrayList<>()).add(reference);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package nl.han.ica.icss.scope;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Variable bindings with nested scopes.
+ *
+ * All visible bindings live in one map, so looking up the innermost binding of a name takes constant time
+ * no matter how deeply scopes are nested. Every scope remembers what its definitions shadowed, and
+ * restores that when it is popped.
+ *
+ * @param <V> What a name is bound to, e.g. its type or its value.
+ */
+public class SymbolTable<V> {
+
+    //Marks a name that was not bound before it was defined in a scope
+    private static final Object UNBOUND = new Object();
+
+    private final HashMap<String, V> bindings = new HashMap<>();
+    private final ArrayDeque<Scope> scopes = new ArrayDeque<>();
+
+    public SymbolTable() {
+        pushScope();
+    }
+
+    /**
+     * @param globals Bindings for the outermost scope, e.g. imported variables.
+     */
+    public SymbolTable(Map<String, V> globals) {
+        this();
+        bindings.putAll(globals);
+    }
+
+    public void pushScope() {
+        scopes.push(new Scope());
+    }
+
+    public void popScope() {
+        if (scopes.size() == 1) {
+            throw new IllegalStateException("The global scope can not be popped");
+        }
+        scopes.pop().restore(bindings);
+    }
+
+    /**
+     * Binds the name in the current scope, shadowing any binding from an outer scope.
+     */
+    public void define(String name, V value) {
+        Object previous = bindings.containsKey(name) ? bindings.get(name) : UNBOUND;
+        bindings.put(name, value);
+        scopes.peek().remember(name, previous);
+    }
+
+    /**
+     * @return The innermost binding of the name, or null when it is not defined.
+     */
+    public V lookup(String name) {
+        return bindings.get(name);
+    }
+
+    public boolean isDefined(String name) {
+        return bindings.containsKey(name);
+    }
+
+    public int getDepth() {
+        return scopes.size();
+    }
+
+    /**
+     * @return A read-only view of all bindings that are currently visible.
+     */
+    public Map<String, V> getBindings() {
+        return Collections.unmodifiableMap(bindings);
+    }
+
+    private static class Scope {
+        private final ArrayList<String> names = new ArrayList<>();
+        private final ArrayList<Object> shadowed = new ArrayList<>();
+
+        void remember(String name, Object previous) {
+            names.add(name);
+            shadowed.add(previous);
+        }
+
+        @SuppressWarnings("unchecked")
+        <V> void restore(HashMap<String, V> bindings) {
+            //Undo in reverse, so a name defined twice in one scope gets its outer binding back
+            for (int i = names.size() - 1; i >= 0; i--) {
+                Object previous = shadowed.get(i);
+                if (previous == UNBOUND) {
+                    bindings.remove(names.get(i));
+                } else {
+                    bindings.put(names.get(i), (V) previous);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package nl.han.ica.icss.transforms;
+
+import nl.han.ica.icss.ast.*;
+import nl.han.ica.icss.ast.operations.AddOperation;
+import nl.han.ica.icss.ast.operations.SubtractOperation;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Numbers the operations of a stylesheet so that structurally identical operations get the same number.
+ *
+ * Two operations are identical when they apply the same operator to identical operands, where variable references
+ * are identical when they are bound to the same assignment. A name that is shadowed in another scope therefore
+ * never makes two operations identical.
+ */
+class CommonSubexpressions {
+
+    private final NumberTable literals = new NumberTable();
+    private final Map<VariableAssignment, Integer> variables = new IdentityHashMap<>();
+    private final NumberTable operations = new NumberTable();
+    //The numbers of the operations in the order they are visited, parents before their operands
+    private int[] operationNumbers = new int[64];
+    private int operationCount;
+    private int[] occurrences = new int[64];
+    private int[] sizes = new int[64];
+    private int count;
+
+    CommonSubexpressions(ASTNode root) {
+        visit(root);
+    }
+
+    /**
+     * @param index The position of the operation when the statements are visited in tree order, and each operation is
+     *              visited before its operands. Skipping an operation means skipping {@link #sizeOf} positions.
+     */
+    int numberAt(int index) {
+        return operationNumbers[index];
+    }
+
+    /**
+     * @return How many different expressions were numbered, every number is below this count.
+     */
+    int getCount() {
+        return count;
+    }
+
+    boolean isRepeated(int number) {
+        return occurrences[number] > 1;
+    }
+
+    /**
+     * @return The number of operations in the expression, including itself.
+     */
+    int sizeOf(int number) {
+        return sizes[number];
+    }
+
+    private void visit(ASTNode node) {
+        if (node instanceof VariableAssignment) {
+            number(((VariableAssignment) node).expression);
+        } else if (node instanceof Declaration) {
+            //A custom property reference has no value to evaluate
+            if (!(((Declaration) node).expression instanceof CustomPropertyReference)) {
+                number(((Declaration) node).expression);
+            }
+        } else {
+            for (ASTNode child : node.getChildren()) {
+                visit(child);
+            }
+        }
+    }
+
+    private int number(Expression expression) {
+        if (expression instanceof Literal) {
+            long value = CompiledStylesheet.toValue((Literal) expression) & 0xffffffffL;
+            return intern(literals, (long) expression.getType().ordinal() << 32 | value, 0);
+        } else if (expression instanceof VariableReference) {
+            VariableAssignment declaration = ((VariableReference) expression).declaration;
+            if (declaration == null) {
+                //Unresolved references are never identical, each one reports its own name
+                return newNumber(0);
+            }
+            Integer number = variables.get(declaration);
+            if (number == null) {
+                number = newNumber(0);
+                variables.put(declaration, number);
+            }
+            return number;
+        }
+        Operation operation = (Operation) expression;
+        if (operationCount == operationNumbers.length) {
+            operationNumbers = Arrays.copyOf(operationNumbers, operationCount * 2);
+        }
+        int index = operationCount++;
+        int lhs = number(operation.lhs);
+        int rhs = number(operation.rhs);
+        long operator = operation instanceof AddOperation ? 1 : operation instanceof SubtractOperation ? 2 : 3;
+        int number = intern(operations, operator << 60 | (long) lhs << 30 | rhs, 1 + sizes[lhs] + sizes[rhs]);
+        occurrences[number]++;
+        operationNumbers[index] = number;
+        return number;
+    }
+
+    private int intern(NumberTable table, long key, int size) {
+        int number = table.get(key);
+        if (number < 0) {
+            number = newNumber(size);
+            table.put(key, number);
+        }
+        return number;
+    }
+
+    private int newNumber(int size) {
+        if (count == sizes.length) {
+            occurrences = Arrays.copyOf(occurrences, count * 2);
+            sizes = Arrays.copyOf(sizes, count * 2);
+        }
+        sizes[count] = size;
+        return count++;
+    }
+
+    /**
+     * Maps keys to numbers without boxing. The keys pack small numbers side by side, so they are scrambled
+     * before they pick a slot, Long.hashCode would put most of them in the same few buckets.
+     */
+    private static class NumberTable {
+        private long[] keys = new long[64];
+        private int[] values = new int[64];
+        private boolean[] used = new boolean[64];
+        private int size;
+
+        int get(long key) {
+            int slot = slotOf(key);
+            return used[slot] ? values[slot] : -1;
+        }
+
+        void put(long key, int value) {
+            if (size * 2 >= keys.length) {
+                grow();
+            }
+            int slot = slotOf(key);
+            if (!used[slot]) {
+                used[slot] = true;
+                keys[slot] = key;
+                size++;
+            }
+            values[slot] = value;
+        }
+
+        private int slotOf(long key) {
+            int mask = keys.length - 1;
+            int slot = (int) (key * 0x9E3779B97F4A7C15L >>> 40) & mask;
+            while (used[slot] && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            boolean[] oldUsed = used;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldKeys.length * 2];
+            used = new boolean[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldUsed[i]) {
+                    int slot = slotOf(oldKeys[i]);
+                    used[slot] = true;
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+    }
+}
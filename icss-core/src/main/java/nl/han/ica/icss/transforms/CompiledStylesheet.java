@@ -0,0 +1,580 @@
+package nl.han.ica.icss.transforms;
+
+import nl.han.ica.icss.ast.*;
+import nl.han.ica.icss.ast.literals.ColorLiteral;
+import nl.han.ica.icss.ast.literals.PercentageLiteral;
+import nl.han.ica.icss.ast.literals.PixelLiteral;
+import nl.han.ica.icss.ast.literals.ScalarLiteral;
+import nl.han.ica.icss.ast.operations.AddOperation;
+import nl.han.ica.icss.ast.operations.SubtractOperation;
+import nl.han.ica.icss.ast.types.ExpressionType;
+import nl.han.ica.icss.checker.SemanticError;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The expressions of a stylesheet compiled to one program for a small stack machine.
+ *
+ * Every variable gets a slot and every value is a long, tagged with its unit by the instruction that produces it.
+ * Running the program does not allocate anything except the literals of the results, so a stylesheet can be
+ * compiled once and evaluated as often as needed. Variable references have to be bound by the Resolver first,
+ * a reference that is not bound fails its statement with an error.
+ *
+ * Arithmetic is checked, a value that overflows a long, or a result that does not fit in the int of a literal,
+ * is reported instead of wrapping around.
+ *
+ * The global variables form a dependency graph: every global is placed one level above the highest global it uses.
+ * All globals of a level are independent of each other, so large themes can evaluate them in parallel.
+ *
+ * An operation that occurs more than once with the same operands, e.g. the same "Width + 20px" in many rules,
+ * is only evaluated the first time. Its value is saved, apart from the slots of the variables, and loaded by the next
+ * occurrences. When the statement with the first occurrence fails before it gets there, the next occurrence evaluates
+ * it instead, so the results and errors are the same as without saving.
+ */
+public class CompiledStylesheet {
+
+    //An instruction is an opcode, with the unit of its result in the bits above it, followed by its operand if any.
+    //Literals hold ints and colors fit in 24 bits, so a constant is pushed from its operand.
+    private static final int CONST = 0;
+    private static final int LOAD = 1;
+    private static final int ADD = 2;
+    private static final int SUB = 3;
+    private static final int MUL = 4;
+    private static final int STORE = 5;
+    private static final int EMIT = 6;
+    //Keeps a copy of the value on top of the stack, for the next occurrences of the same expression
+    private static final int SAVE = 7;
+    //A reference that is not bound to an assignment, its operand is the index of the name
+    private static final int UNRESOLVED = 8;
+    //Pushes the value kept by a save
+    private static final int LOAD_SAVED = 9;
+    private static final int UNIT_SHIFT = 8;
+    private static final int OPCODE_MASK = (1 << UNIT_SHIFT) - 1;
+
+    private static final ExpressionType[] units = ExpressionType.values();
+    //Thrown by a statement that loads a variable that could not be evaluated. It has no stack trace, so one instance
+    //does for every statement.
+    private static final UsesFailedVariable USES_FAILED_VARIABLE = new UsesFailedVariable();
+
+    //Statements evaluated by one task when the global variables are evaluated in parallel
+    private static final int STATEMENTS_PER_TASK = 64;
+
+    private final int[] code;
+    //Where every statement, an assignment or a declaration, starts in the code
+    private final int[] statements;
+    //The statements of the global variables by dependency level: a global only uses globals of lower levels
+    private final int[][] globalLevels;
+    private final boolean[] isGlobal;
+    private final long[] slots;
+    private final VariableAssignment[] assignments;
+    private final Declaration[] declarations;
+    private final String[] unresolvedNames;
+    private final int stackSize;
+    private final long[] stack;
+    //The slots of the assignments that could not be evaluated
+    private final boolean[] failed;
+    //The values of the saved expressions, which count as failed until their first occurrence has been evaluated
+    private final long[] savedValues;
+    private final boolean[] savedFailed;
+    //Where the code of the first occurrence of each saved expression starts
+    private final int[] savedStarts;
+    private final int savedEvaluations;
+
+    private CompiledStylesheet(Compiler compiler) {
+        code = Arrays.copyOf(compiler.code, compiler.codeSize);
+        statements = Arrays.copyOf(compiler.statementStarts, compiler.statementCount);
+        slots = Arrays.copyOf(compiler.initialSlots, compiler.slotCount);
+        assignments = compiler.assignments.toArray(new VariableAssignment[0]);
+        declarations = compiler.declarations.toArray(new Declaration[0]);
+        unresolvedNames = compiler.unresolvedNames.toArray(new String[0]);
+        stackSize = Math.max(compiler.maxDepth, 1);
+        stack = new long[stackSize];
+        failed = new boolean[slots.length];
+        savedValues = new long[compiler.savedCount];
+        savedFailed = new boolean[compiler.savedCount];
+        savedStarts = Arrays.copyOf(compiler.savedStarts, compiler.savedCount);
+        savedEvaluations = compiler.savedEvaluations;
+
+        int[] levelSizes = new int[compiler.maxLevel + 1];
+        for (int i = 0; i < statements.length; i++) {
+            levelSizes[compiler.statementLevels[i]]++;
+        }
+        globalLevels = new int[compiler.maxLevel][];
+        for (int level = 1; level <= compiler.maxLevel; level++) {
+            globalLevels[level - 1] = new int[levelSizes[level]];
+            levelSizes[level] = 0;
+        }
+        isGlobal = new boolean[statements.length];
+        for (int i = 0; i < statements.length; i++) {
+            int level = compiler.statementLevels[i];
+            if (level > 0) {
+                globalLevels[level - 1][levelSizes[level]++] = i;
+                isGlobal[i] = true;
+            }
+        }
+    }
+
+    public static CompiledStylesheet compile(AST ast) {
+        Compiler compiler = new Compiler(new CommonSubexpressions(ast.root));
+        compiler.compileNode(ast.root);
+        return new CompiledStylesheet(compiler);
+    }
+
+    /**
+     * Evaluates all expressions in source order and replaces every declaration and assignment expression by its value.
+     *
+     * An expression whose value does not fit in a literal gets an error and keeps its expression, and so does
+     * everything that depends on it.
+     *
+     * @return The errors of this evaluation in source order, empty when every expression was evaluated.
+     */
+    public List<SemanticError> evaluate() {
+        Arrays.fill(failed, false);
+        Arrays.fill(savedFailed, true);
+        SemanticError[] errors = new SemanticError[statements.length];
+        for (int statement = 0; statement < statements.length; statement++) {
+            evaluateStatement(statement, stack, errors);
+        }
+        return collect(errors);
+    }
+
+    /**
+     * Like {@link #evaluate()}, but evaluates the global variables one dependency level at a time,
+     * with the independent variables of a level evaluated in parallel on the pool.
+     * The rules are evaluated afterwards, in source order.
+     */
+    public List<SemanticError> evaluate(ForkJoinPool pool) {
+        Arrays.fill(failed, false);
+        Arrays.fill(savedFailed, true);
+        SemanticError[] errors = new SemanticError[statements.length];
+        for (int[] level : globalLevels) {
+            if (level.length <= STATEMENTS_PER_TASK) {
+                for (int statement : level) {
+                    evaluateStatement(statement, stack, errors);
+                }
+            } else {
+                pool.invoke(new EvaluateStatements(level, 0, level.length, errors));
+            }
+        }
+        for (int statement = 0; statement < statements.length; statement++) {
+            if (!isGlobal[statement]) {
+                evaluateStatement(statement, stack, errors);
+            }
+        }
+        return collect(errors);
+    }
+
+    /**
+     * @return How many operations every evaluation skips because the same operation was evaluated before.
+     */
+    public int getSavedEvaluations() {
+        return savedEvaluations;
+    }
+
+    /**
+     * @return The number of dependency levels of the global variables: 1 when no global uses another one.
+     */
+    public int getGlobalLevelCount() {
+        return globalLevels.length;
+    }
+
+    private void evaluateStatement(int statement, long[] stack, SemanticError[] errors) {
+        try {
+            run(statements[statement], stack, -1);
+        } catch (ArithmeticException e) {
+            fail(statement, "The value of the expression is too large.", errors);
+        } catch (UsesFailedVariable e) {
+            fail(statement, null, errors);
+        } catch (UnresolvedVariable e) {
+            fail(statement, e.getMessage(), errors);
+        }
+    }
+
+    /**
+     * Runs the instructions of one statement, up to and including its store or emit, or up to and including the save
+     * of the stop expression.
+     */
+    private void run(int pc, long[] stack, int stop) {
+        //A local, so the loop does not have to read the field again after every store
+        int[] code = this.code;
+        int top = -1;
+        while (true) {
+            int instruction = code[pc++];
+            switch (instruction & OPCODE_MASK) {
+                case CONST:
+                    stack[++top] = code[pc++];
+                    break;
+                case LOAD: {
+                    int slot = code[pc++];
+                    if (failed[slot]) {
+                        throw USES_FAILED_VARIABLE;
+                    }
+                    stack[++top] = slots[slot];
+                    break;
+                }
+                case LOAD_SAVED: {
+                    int saved = code[pc++];
+                    stack[++top] = savedFailed[saved] ? evaluateSaved(saved) : savedValues[saved];
+                    break;
+                }
+                case ADD:
+                    stack[top - 1] = Math.addExact(stack[top - 1], stack[top]);
+                    top--;
+                    break;
+                case SUB:
+                    stack[top - 1] = Math.subtractExact(stack[top - 1], stack[top]);
+                    top--;
+                    break;
+                case MUL:
+                    stack[top - 1] = Math.multiplyExact(stack[top - 1], stack[top]);
+                    top--;
+                    break;
+                case SAVE: {
+                    int saved = code[pc++];
+                    savedValues[saved] = stack[top];
+                    savedFailed[saved] = false;
+                    if (saved == stop) {
+                        return;
+                    }
+                    break;
+                }
+                case UNRESOLVED:
+                    throw new UnresolvedVariable(unresolvedNames[code[pc]]);
+                case STORE: {
+                    int slot = code[pc];
+                    assignments[slot].expression = toLiteral(instruction >>> UNIT_SHIFT, stack[top]);
+                    slots[slot] = stack[top];
+                    return;
+                }
+                default:
+                    declarations[code[pc]].expression = toLiteral(instruction >>> UNIT_SHIFT, stack[top]);
+                    return;
+            }
+        }
+    }
+
+    /**
+     * Evaluates a saved expression from the code of its first occurrence, which was not reached or failed.
+     * Only happens for statements that fail, so the stack is not worth keeping.
+     */
+    private long evaluateSaved(int saved) {
+        long[] stack = new long[stackSize];
+        run(savedStarts[saved], stack, saved);
+        return stack[0];
+    }
+
+    /**
+     * Marks the statement as failed, finding the node it belongs to from its store or emit.
+     * @param error Why the statement itself failed, null when it uses a variable that failed.
+     */
+    private void fail(int statement, String error, SemanticError[] errors) {
+        int pc = statements[statement];
+        while (true) {
+            int opcode = code[pc++] & OPCODE_MASK;
+            if (opcode == STORE || opcode == EMIT) {
+                ASTNode node;
+                if (opcode == STORE) {
+                    failed[code[pc]] = true;
+                    node = assignments[code[pc]];
+                } else {
+                    node = declarations[code[pc]];
+                }
+                //Only report the expression that failed, not everything that uses it
+                if (error != null) {
+                    node.setError(error);
+                    errors[statement] = node.getError();
+                }
+                return;
+            }
+            if (opcode == CONST || opcode == LOAD || opcode == SAVE || opcode == UNRESOLVED || opcode == LOAD_SAVED) {
+                pc++;
+            }
+        }
+    }
+
+    private static List<SemanticError> collect(SemanticError[] errors) {
+        List<SemanticError> result = new ArrayList<>();
+        for (SemanticError error : errors) {
+            if (error != null) {
+                result.add(error);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return The number of ints in the program, for diagnostics and benchmarks.
+     */
+    public int getCodeSize() {
+        return code.length;
+    }
+
+    private static Literal toLiteral(int unit, long value) {
+        switch (units[unit]) {
+            case PIXEL:
+                return new PixelLiteral(Math.toIntExact(value));
+            case PERCENTAGE:
+                return new PercentageLiteral(Math.toIntExact(value));
+            case COLOR:
+                return new ColorLiteral(String.format("#%06x", value));
+            default:
+                return new ScalarLiteral(Math.toIntExact(value));
+        }
+    }
+
+    static int toValue(Literal literal) {
+        if (literal instanceof PixelLiteral) {
+            return ((PixelLiteral) literal).value;
+        } else if (literal instanceof PercentageLiteral) {
+            return ((PercentageLiteral) literal).value;
+        } else if (literal instanceof ScalarLiteral) {
+            return ((ScalarLiteral) literal).value;
+        } else {
+            return Integer.parseInt(((ColorLiteral) literal).value.substring(1), 16);
+        }
+    }
+
+    private static class UsesFailedVariable extends RuntimeException {
+        UsesFailedVariable() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static class UnresolvedVariable extends RuntimeException {
+        UnresolvedVariable(String name) {
+            super("Variable '" + name + "' is not resolved.", null, false, false);
+        }
+    }
+
+    /**
+     * Evaluates a range of statements that do not depend on each other, splitting it in half until it is small enough.
+     */
+    private class EvaluateStatements extends RecursiveAction {
+        private final int[] level;
+        private final int from;
+        private final int to;
+        private final SemanticError[] errors;
+
+        EvaluateStatements(int[] level, int from, int to, SemanticError[] errors) {
+            this.level = level;
+            this.from = from;
+            this.to = to;
+            this.errors = errors;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > STATEMENTS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new EvaluateStatements(level, from, middle, errors),
+                        new EvaluateStatements(level, middle, to, errors));
+                return;
+            }
+            long[] stack = new long[stackSize];
+            for (int i = from; i < to; i++) {
+                evaluateStatement(level[i], stack, errors);
+            }
+        }
+    }
+
+    private static class Compiler {
+        int[] code = new int[64];
+        int codeSize;
+        long[] initialSlots = new long[16];
+        int[] slotUnits = new int[16];
+        int[] slotLevels = new int[16];
+        int slotCount;
+        int[] statementStarts = new int[16];
+        int[] statementLevels = new int[16];
+        int statementCount;
+        int depth;
+        int maxDepth;
+        //The highest level of the globals used by the statement being compiled
+        int level;
+        int maxLevel;
+        final Map<VariableAssignment, Integer> slotOf = new IdentityHashMap<>();
+        final List<VariableAssignment> assignments = new ArrayList<>();
+        final List<Declaration> declarations = new ArrayList<>();
+        final List<String> unresolvedNames = new ArrayList<>();
+        final CommonSubexpressions common;
+        //The saved expression keeping the value of each numbered operation, -1 when it is not saved
+        final int[] savedOf;
+        //The position of the next operation, in the order CommonSubexpressions numbered them
+        int operationIndex;
+        int savedCount;
+        int[] savedUnits = new int[16];
+        int[] savedStarts = new int[16];
+        //The statement that saves the expression
+        int[] savedBy = new int[16];
+        int savedEvaluations;
+        boolean global;
+
+        Compiler(CommonSubexpressions common) {
+            this.common = common;
+            savedOf = new int[common.getCount()];
+            Arrays.fill(savedOf, -1);
+        }
+
+        void compileNode(ASTNode node) {
+            if (node instanceof Declaration && ((Declaration) node).expression instanceof CustomPropertyReference) {
+                //Keeps its reference, the browser looks up the value
+                return;
+            }
+            if (node instanceof VariableAssignment || node instanceof Declaration) {
+                compileStatement(node, false);
+            } else {
+                for (ASTNode child : node.getChildren()) {
+                    if (node instanceof Stylesheet && child instanceof VariableAssignment) {
+                        compileStatement(child, true);
+                    } else {
+                        compileNode(child);
+                    }
+                }
+            }
+        }
+
+        void compileStatement(ASTNode node, boolean global) {
+            int start = codeSize;
+            this.global = global;
+            level = 0;
+
+            int statementLevel = 0;
+            if (node instanceof VariableAssignment) {
+                VariableAssignment assignment = (VariableAssignment) node;
+                int unit = compileExpression(assignment.expression);
+                int slot = newSlot(assignment, unit);
+                if (global) {
+                    statementLevel = level + 1;
+                    slotLevels[slot] = statementLevel;
+                    maxLevel = Math.max(maxLevel, statementLevel);
+                }
+                emit(STORE | unit << UNIT_SHIFT, slot);
+            } else {
+                Declaration declaration = (Declaration) node;
+                int unit = compileExpression(declaration.expression);
+                emit(EMIT | unit << UNIT_SHIFT, declarations.size());
+                declarations.add(declaration);
+            }
+            depth--;
+
+            if (statementCount == statementStarts.length) {
+                statementStarts = Arrays.copyOf(statementStarts, statementCount * 2);
+                statementLevels = Arrays.copyOf(statementLevels, statementCount * 2);
+            }
+            statementStarts[statementCount] = start;
+            statementLevels[statementCount++] = statementLevel;
+        }
+
+        /**
+         * Emits the instructions that leave the value of the expression on the stack.
+         * @return The unit of the value.
+         */
+        int compileExpression(Expression expression) {
+            int unit;
+            if (expression instanceof Literal) {
+                unit = expression.getType().ordinal();
+                emit(CONST | unit << UNIT_SHIFT, toValue((Literal) expression));
+                push();
+            } else if (expression instanceof VariableReference
+                    && ((VariableReference) expression).declaration == null) {
+                //Fails when it is evaluated, like an overflow, instead of failing the whole stylesheet here
+                unit = ExpressionType.UNDEFINED.ordinal();
+                emit(UNRESOLVED, unresolvedNames.size());
+                unresolvedNames.add(((VariableReference) expression).name);
+                push();
+            } else if (expression instanceof VariableReference) {
+                int slot = slotOf((VariableReference) expression);
+                unit = slotUnits[slot];
+                level = Math.max(level, slotLevels[slot]);
+                emit(LOAD | unit << UNIT_SHIFT, slot);
+                push();
+            } else {
+                Operation operation = (Operation) expression;
+                int number = common.numberAt(operationIndex);
+                int saved = savedOf[number];
+                //Rules run after the globals they follow. A global only reuses its own operations, so it does not have
+                //to wait for another global and its dependency level stays the same.
+                if (saved >= 0 && (!global || savedBy[saved] == statementCount)) {
+                    unit = savedUnits[saved];
+                    emit(LOAD_SAVED | unit << UNIT_SHIFT, saved);
+                    push();
+                    savedEvaluations += common.sizeOf(number);
+                    operationIndex += common.sizeOf(number);
+                    return unit;
+                }
+                operationIndex++;
+                int start = codeSize;
+                int lhsUnit = compileExpression(operation.lhs);
+                int rhsUnit = compileExpression(operation.rhs);
+                unit = lhsUnit == ExpressionType.SCALAR.ordinal() ? rhsUnit : lhsUnit;
+                int opcode = operation instanceof AddOperation ? ADD : operation instanceof SubtractOperation ? SUB : MUL;
+                emit(opcode | unit << UNIT_SHIFT);
+                depth--;
+                if (saved < 0 && common.isRepeated(number)) {
+                    saved = newSaved(unit, start);
+                    savedOf[number] = saved;
+                    emit(SAVE, saved);
+                }
+            }
+            return unit;
+        }
+
+        int slotOf(VariableReference reference) {
+            VariableAssignment declaration = reference.declaration;
+            Integer slot = slotOf.get(declaration);
+            if (slot == null) {
+                //Declared outside the AST, e.g. imported: its value is already known
+                Literal value = (Literal) declaration.expression;
+                slot = newSlot(declaration, value.getType().ordinal());
+                initialSlots[slot] = toValue(value);
+            }
+            return slot;
+        }
+
+        int newSlot(VariableAssignment assignment, int unit) {
+            if (slotCount == initialSlots.length) {
+                initialSlots = Arrays.copyOf(initialSlots, slotCount * 2);
+                slotUnits = Arrays.copyOf(slotUnits, slotCount * 2);
+                slotLevels = Arrays.copyOf(slotLevels, slotCount * 2);
+            }
+            slotUnits[slotCount] = unit;
+            slotOf.put(assignment, slotCount);
+            assignments.add(assignment);
+            return slotCount++;
+        }
+
+        int newSaved(int unit, int start) {
+            if (savedCount == savedUnits.length) {
+                savedUnits = Arrays.copyOf(savedUnits, savedCount * 2);
+                savedStarts = Arrays.copyOf(savedStarts, savedCount * 2);
+                savedBy = Arrays.copyOf(savedBy, savedCount * 2);
+            }
+            savedUnits[savedCount] = unit;
+            savedStarts[savedCount] = start;
+            savedBy[savedCount] = statementCount;
+            return savedCount++;
+        }
+
+        void push() {
+            maxDepth = Math.max(maxDepth, ++depth);
+        }
+
+        void emit(int instruction) {
+            if (codeSize == code.length) {
+                code = Arrays.copyOf(code, codeSize * 2);
+            }
+            code[codeSize++] = instruction;
+        }
+
+        void emit(int instruction, int operand) {
+            emit(instruction);
+            emit(operand);
+        }
+    }
+}
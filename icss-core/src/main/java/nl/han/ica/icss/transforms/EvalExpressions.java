@@ -0,0 +1,53 @@
+package nl.han.ica.icss.transforms;
+
+import nl.han.ica.icss.ast.AST;
+import nl.han.ica.icss.checker.SemanticError;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Replaces every expression by its value. Variable references have to be bound by the Resolver first.
+ * Declarations that use a custom property keep their {@link nl.han.ica.icss.ast.CustomPropertyReference}.
+ *
+ * The expressions are compiled to a {@link CompiledStylesheet} and evaluated once, keep the compiled stylesheet
+ * instead to evaluate the same stylesheet more than once.
+ */
+public class EvalExpressions implements Transform {
+
+    private ForkJoinPool pool;
+    private List<SemanticError> errors = Collections.emptyList();
+    private int savedEvaluations;
+
+    public EvalExpressions() {
+    }
+
+    /**
+     * @param pool Evaluates the independent global variables in parallel.
+     */
+    public EvalExpressions(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public void apply(AST ast) {
+        CompiledStylesheet compiled = CompiledStylesheet.compile(ast);
+        errors = pool != null ? compiled.evaluate(pool) : compiled.evaluate();
+        savedEvaluations = compiled.getSavedEvaluations();
+    }
+
+    /**
+     * @return The expressions that could not be evaluated, e.g. because they overflow.
+     */
+    public List<SemanticError> getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return The number of operations that were not evaluated because an identical one was evaluated before.
+     */
+    public int getSavedEvaluations() {
+        return savedEvaluations;
+    }
+}
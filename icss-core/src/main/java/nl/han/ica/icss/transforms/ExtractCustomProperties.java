@@ -0,0 +1,93 @@
+package nl.han.ica.icss.transforms;
+
+import nl.han.ica.icss.ast.*;
+import nl.han.ica.icss.ast.selectors.PseudoClassSelector;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Turns global variables with a literal value into CSS custom properties on <code>:root</code>, e.g.
+ * <code>LinkColor := #ff0000; a { color: LinkColor; }</code> becomes
+ * <code>:root { --LinkColor: #ff0000; } a { color: var(--LinkColor); }</code>. The value is written once instead of
+ * at every use, and changing the property in the browser changes every use, e.g. to switch themes.
+ *
+ * Only a declaration whose value is just the variable uses the property. Expressions that compute with a variable are
+ * still evaluated, changing the property does not change them, so a variable only used in those gets no property.
+ * Neither does a variable that is assigned more than once at the top level: a property has one value.
+ *
+ * Variable references have to be bound by the Resolver first, and this has to run before EvalExpressions. The
+ * properties get the value of their variable from a reference, so EvalExpressions fills them in like any declaration.
+ */
+public class ExtractCustomProperties implements Transform {
+
+    private int extracted;
+
+    @Override
+    public void apply(AST ast) {
+        List<ASTNode> body = ast.root.body;
+        Map<String, Integer> assignmentCounts = new HashMap<>();
+        for (ASTNode node : body) {
+            if (node instanceof VariableAssignment) {
+                assignmentCounts.merge(((VariableAssignment) node).name.name, 1, Integer::sum);
+            }
+        }
+        Set<VariableAssignment> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ASTNode node : body) {
+            if (node instanceof VariableAssignment) {
+                VariableAssignment assignment = (VariableAssignment) node;
+                if (assignment.expression instanceof Literal && assignmentCounts.get(assignment.name.name) == 1) {
+                    candidates.add(assignment);
+                }
+            }
+        }
+        Set<VariableAssignment> used = Collections.newSetFromMap(new IdentityHashMap<>());
+        replaceReferences(ast.root, candidates, used);
+
+        //The rule follows the last variable it uses, so every variable is assigned before it is used
+        Stylerule root = new Stylerule();
+        root.addChild(new PseudoClassSelector("root"));
+        int position = 0;
+        for (int i = 0; i < body.size(); i++) {
+            if (used.contains(body.get(i))) {
+                VariableAssignment assignment = (VariableAssignment) body.get(i);
+                VariableReference value = new VariableReference(assignment.name.name);
+                value.declaration = assignment;
+                root.addChild((new Declaration("--" + assignment.name.name)).addChild(value));
+                position = i + 1;
+            }
+        }
+        extracted = root.body.size();
+        if (extracted > 0) {
+            body.add(position, root);
+        }
+    }
+
+    /**
+     * @return The number of custom properties the last apply added to <code>:root</code>.
+     */
+    public int getExtracted() {
+        return extracted;
+    }
+
+    private void replaceReferences(ASTNode node, Set<VariableAssignment> candidates, Set<VariableAssignment> used) {
+        if (node instanceof Declaration) {
+            Declaration declaration = (Declaration) node;
+            if (declaration.expression instanceof VariableReference) {
+                VariableAssignment assignment = ((VariableReference) declaration.expression).declaration;
+                if (candidates.contains(assignment)) {
+                    declaration.expression = new CustomPropertyReference(assignment.name.name);
+                    used.add(assignment);
+                }
+            }
+        } else if (!(node instanceof VariableAssignment)) {
+            for (ASTNode child : node.getChildren()) {
+                replaceReferences(child, candidates, used);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package nl.han.ica.icss.transforms;
+
+import nl.han.ica.icss.ast.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Merges rules with exactly the same declarations into one rule with a selector list, e.g.
+ * <code>a { color: #ff0000; } p { color: #ff0000; }</code> becomes <code>a, p { color: #ff0000; }</code>.
+ * Nested rules have to be removed and expressions evaluated first.
+ *
+ * The merged rule takes the place of the first one, which moves the declarations of the later rules up. That is
+ * only done when no rule in between declares one of the same properties, or a related one like margin for
+ * margin-top, because the rules may match the same elements and which of them wins depends on the order.
+ *
+ * The last rule declaring a property is remembered by the {@link PropertyName#relationKeys} of the property, so each
+ * declaration takes a few lookups and merging takes time linear in the number of declarations.
+ */
+public class MergeRules implements Transform {
+
+    private int mergedRules;
+
+    @Override
+    public void apply(AST ast) {
+        //The last rule with each declaration block and its position, and for each relation key the position of the
+        //last rule that declares a property with that key
+        Map<String, Stylerule> rulesByBlock = new HashMap<>();
+        Map<String, Integer> blockPositions = new HashMap<>();
+        Map<String, Integer> lastDeclaring = new HashMap<>();
+        ArrayList<ASTNode> body = new ArrayList<>();
+        int position = 0;
+        mergedRules = 0;
+
+        for (ASTNode node : ast.root.body) {
+            if (!(node instanceof Stylerule)) {
+                body.add(node);
+                continue;
+            }
+            Stylerule rule = (Stylerule) node;
+            String block = blockOf(rule);
+            if (block != null && rulesByBlock.containsKey(block)
+                    && !declaredAfter(blockPositions.get(block), rule, lastDeclaring)) {
+                rulesByBlock.get(block).selectors.addAll(rule.selectors);
+                mergedRules++;
+                continue;
+            }
+            position++;
+            if (block != null) {
+                rulesByBlock.put(block, rule);
+                blockPositions.put(block, position);
+            }
+            body.add(rule);
+            declare(rule, position, lastDeclaring);
+        }
+        ast.root.body = body;
+    }
+
+    /**
+     * @return The number of rules that were merged into an earlier rule by the last apply.
+     */
+    public int getMergedRules() {
+        return mergedRules;
+    }
+
+    /*
+     Whether a rule after the given position declares one of the properties of the rule, or a related property like
+     margin for margin-top. Then the rule can not move up: that rule would win where it used to lose, or the other way
+     around.
+     */
+    private boolean declaredAfter(int position, Stylerule rule, Map<String, Integer> lastDeclaring) {
+        for (ASTNode child : rule.body) {
+            String property = ((Declaration) child).property.name;
+            for (String key : PropertyName.relationKeys(property)) {
+                Integer declared = lastDeclaring.get(key);
+                if (declared != null && declared > position) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void declare(Stylerule rule, int position, Map<String, Integer> lastDeclaring) {
+        for (ASTNode child : rule.body) {
+            if (child instanceof Declaration) {
+                for (String key : PropertyName.relationKeys(((Declaration) child).property.name)) {
+                    lastDeclaring.put(key, position);
+                }
+            }
+        }
+    }
+
+    /*
+     The declarations in order as text, e.g. "color:2:16711680;width:var:Width;". PropertyName has no equals,
+     so the key is built from the names and values instead of the nodes. Returns null for a rule that can
+     not be merged: without declarations, or with something that is not an evaluated declaration.
+     */
+    private String blockOf(Stylerule rule) {
+        if (rule.body.isEmpty()) {
+            return null;
+        }
+        StringBuilder block = new StringBuilder();
+        for (ASTNode child : rule.body) {
+            if (!(child instanceof Declaration)) {
+                return null;
+            }
+            Declaration declaration = (Declaration) child;
+            block.append(declaration.property.name).append(':');
+            if (declaration.expression instanceof Literal) {
+                Literal value = (Literal) declaration.expression;
+                block.append(value.getType().ordinal()).append(':').append(CompiledStylesheet.toValue(value));
+            } else if (declaration.expression instanceof CustomPropertyReference) {
+                block.append("var:").append(((CustomPropertyReference) declaration.expression).name);
+            } else {
+                return null;
+            }
+            block.append(';');
+        }
+        return block.toString();
+    }
+}
@@ -0,0 +1,65 @@
+package nl.han.ica.icss.transforms;
+
+import nl.han.ica.icss.ast.*;
+import nl.han.ica.icss.ast.selectors.DescendantSelector;
+
+import java.util.ArrayList;
+
+/**
+ * Moves nested rules to the stylesheet, so every rule in the output is a top-level rule.
+ *
+ * A nested rule gets a descendant selector for every combination of the selectors of the rule it is in and its own
+ * selectors. It is placed right after that rule, in source order. Expressions have to be evaluated first: the
+ * variable assignments inside rules are dropped, and so are rules that end up without declarations.
+ *
+ * Each rule is visited once and each new selector is created in constant time, so flattening takes time linear in
+ * the size of the result.
+ */
+public class RemoveNesting implements Transform {
+
+    @Override
+    public void apply(AST ast) {
+        ArrayList<ASTNode> body = new ArrayList<>();
+        for (ASTNode node : ast.root.body) {
+            if (node instanceof Stylerule) {
+                flatten((Stylerule) node, null, body);
+            } else {
+                body.add(node);
+            }
+        }
+        ast.root.body = body;
+    }
+
+    private void flatten(Stylerule rule, ArrayList<Selector> ancestors, ArrayList<ASTNode> output) {
+        ArrayList<Selector> selectors = ancestors == null ? rule.selectors : combine(ancestors, rule.selectors);
+
+        ArrayList<ASTNode> declarations = new ArrayList<>();
+        for (ASTNode child : rule.body) {
+            if (child instanceof Declaration) {
+                declarations.add(child);
+            }
+        }
+        if (!declarations.isEmpty()) {
+            rule.selectors = selectors;
+            output.add(rule);
+        }
+
+        ArrayList<ASTNode> body = rule.body;
+        rule.body = declarations;
+        for (ASTNode child : body) {
+            if (child instanceof Stylerule) {
+                flatten((Stylerule) child, selectors, output);
+            }
+        }
+    }
+
+    private ArrayList<Selector> combine(ArrayList<Selector> ancestors, ArrayList<Selector> descendants) {
+        ArrayList<Selector> selectors = new ArrayList<>(ancestors.size() * descendants.size());
+        for (Selector ancestor : ancestors) {
+            for (Selector descendant : descendants) {
+                selectors.add(new DescendantSelector(ancestor, descendant));
+            }
+        }
+        return selectors;
+    }
+}
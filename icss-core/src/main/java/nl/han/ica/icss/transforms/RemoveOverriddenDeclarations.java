@@ -0,0 +1,79 @@
+package nl.han.ica.icss.transforms;
+
+import nl.han.ica.icss.ast.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Removes declarations that are overridden by a later declaration of the same property for the same selector,
+ * in the same rule or in a later one. Nested rules have to be removed first.
+ *
+ * A later declaration for the same selector has the same specificity, so it wins wherever the earlier one applies.
+ * A declaration in a rule with several selectors is only removed when it is overridden for each of them.
+ * Rules that lose all their declarations are removed too.
+ *
+ * The stylesheet is walked once from the end, remembering every selector and property that is declared further on.
+ */
+public class RemoveOverriddenDeclarations implements Transform {
+
+    private int removedDeclarations;
+
+    @Override
+    public void apply(AST ast) {
+        //"selector property" for every declaration after the current one
+        Set<String> declaredLater = new HashSet<>();
+        ArrayList<ASTNode> body = new ArrayList<>(ast.root.body.size());
+        removedDeclarations = 0;
+
+        for (int i = ast.root.body.size() - 1; i >= 0; i--) {
+            ASTNode node = ast.root.body.get(i);
+            if (node instanceof Stylerule && !removeOverridden((Stylerule) node, declaredLater)) {
+                continue;
+            }
+            body.add(node);
+        }
+        Collections.reverse(body);
+        ast.root.body = body;
+    }
+
+    /**
+     * @return The number of declarations removed by the last apply.
+     */
+    public int getRemovedDeclarations() {
+        return removedDeclarations;
+    }
+
+    /**
+     * @return Whether the rule still has declarations.
+     */
+    private boolean removeOverridden(Stylerule rule, Set<String> declaredLater) {
+        ArrayList<String> selectors = new ArrayList<>(rule.selectors.size());
+        for (Selector selector : rule.selectors) {
+            selectors.add(selector.toString() + ' ');
+        }
+
+        ArrayList<ASTNode> kept = new ArrayList<>(rule.body.size());
+        for (int i = rule.body.size() - 1; i >= 0; i--) {
+            ASTNode child = rule.body.get(i);
+            if (child instanceof Declaration) {
+                String property = ((Declaration) child).property.name;
+                boolean overridden = !selectors.isEmpty();
+                for (String selector : selectors) {
+                    //Keep adding after the first miss, this declaration overrides the earlier ones for every selector
+                    overridden &= !declaredLater.add(selector + property);
+                }
+                if (overridden) {
+                    removedDeclarations++;
+                    continue;
+                }
+            }
+            kept.add(child);
+        }
+        Collections.reverse(kept);
+        rule.body = kept;
+        return !kept.isEmpty();
+    }
+}
@@ -0,0 +1,78 @@
+package nl.han.ica.icss.transforms;
+
+import nl.han.ica.icss.ast.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Removes the variable assignments whose value never ends up in a declaration, so they are not evaluated and
+ * later stages do not see them. Variable references have to be bound by the Resolver first.
+ *
+ * A variable is live when a declaration uses it, or when the expression of a live variable uses it. Everything else
+ * is dead, also a variable that is only used by other dead variables.
+ */
+public class RemoveUnusedVariables implements Transform {
+
+    private List<VariableAssignment> removed = Collections.emptyList();
+
+    @Override
+    public void apply(AST ast) {
+        Map<VariableAssignment, Boolean> live = new IdentityHashMap<>();
+        Deque<Expression> pending = new ArrayDeque<>();
+        collectDeclarations(ast.root, pending);
+        while (!pending.isEmpty()) {
+            Expression expression = pending.pop();
+            if (expression instanceof VariableReference) {
+                VariableAssignment assignment = ((VariableReference) expression).declaration;
+                if (assignment != null && live.put(assignment, Boolean.TRUE) == null) {
+                    pending.push(assignment.expression);
+                }
+            } else if (expression instanceof Operation) {
+                pending.push(((Operation) expression).lhs);
+                pending.push(((Operation) expression).rhs);
+            }
+        }
+
+        removed = new ArrayList<>();
+        removeDead(ast.root, live);
+    }
+
+    /**
+     * @return The assignments removed by the last apply, in source order.
+     */
+    public List<VariableAssignment> getRemoved() {
+        return Collections.unmodifiableList(removed);
+    }
+
+    private void collectDeclarations(ASTNode node, Deque<Expression> pending) {
+        if (node instanceof Declaration) {
+            pending.push(((Declaration) node).expression);
+        } else if (!(node instanceof VariableAssignment)) {
+            for (ASTNode child : node.getChildren()) {
+                collectDeclarations(child, pending);
+            }
+        }
+    }
+
+    private void removeDead(ASTNode node, Map<VariableAssignment, Boolean> live) {
+        //Filtering the body in place keeps this linear, removeChild would search the body for every dead variable
+        List<ASTNode> body = node instanceof Stylesheet ? ((Stylesheet) node).body
+                : node instanceof Stylerule ? ((Stylerule) node).body : Collections.emptyList();
+        body.removeIf(child -> {
+            if (child instanceof VariableAssignment && !live.containsKey(child)) {
+                removed.add((VariableAssignment) child);
+                return true;
+            }
+            return false;
+        });
+        for (ASTNode child : body) {
+            removeDead(child, live);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package nl.han.ica.icss;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import nl.han.ica.icss.ast.AST;
+import nl.han.ica.icss.generator.Generator;
+
+import java.nio.file.Path;
+
+/**
+ * Parses and checks ICSS for the tests of the stages after the checker.
+ */
+public class Sources {
+
+	/**
+	 * @return The AST of the source before it is checked, failing the test when it does not parse.
+	 */
+	public static AST parsed(String icss) {
+		Pipeline pipeline = new Pipeline();
+		pipeline.parseString(icss);
+		assertTrue(pipeline.getErrors().isEmpty(), pipeline.getErrors().toString());
+		return pipeline.getAST();
+	}
+
+	/**
+	 * @return The AST of the source with the variable references bound, failing the test when there are errors.
+	 */
+	public static AST checked(String icss) {
+		return checked(icss, null);
+	}
+
+	/**
+	 * @param sourcePath The file the source is read from, imports are relative to it.
+	 */
+	public static AST checked(String icss, Path sourcePath) {
+		Pipeline pipeline = new Pipeline();
+		if (sourcePath != null) {
+			pipeline.setSourcePath(sourcePath);
+		}
+		pipeline.parseString(icss);
+		assertTrue(pipeline.check(), pipeline.getErrors().toString());
+		return pipeline.getAST();
+	}
+
+	/**
+	 * @return The minified CSS of a transformed AST, a short way to compare stylesheets.
+	 */
+	public static String css(AST ast) {
+		Generator generator = new Generator();
+		generator.setMinified(true);
+		return generator.generate(ast);
+	}
+}
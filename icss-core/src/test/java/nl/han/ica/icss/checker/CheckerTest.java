@@ -0,0 +1,68 @@
+package nl.han.ica.icss.checker;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import nl.han.ica.icss.ast.*;
+import nl.han.ica.icss.ast.types.ExpressionType;
+import nl.han.ica.icss.scope.Resolver;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static nl.han.ica.icss.Sources.parsed;
+
+class CheckerTest {
+
+	AST resolved(String icss) {
+
+		AST ast = parsed(icss);
+		new Resolver().resolve(ast);
+		return ast;
+	}
+
+	@Test
+	void testInferredTypes() {
+
+		//Every node of the expression keeps its type, the operations are not inferred again
+		AST ast = resolved("W := 10px; p { width: W * 2 + 1px; }");
+		new Checker().check(ast);
+		assertTrue(ast.getErrors().isEmpty());
+
+		Expression width = ((Declaration) ((Stylerule) ast.root.body.get(1)).body.get(0)).expression;
+		Operation sum = (Operation) width;
+		Operation product = (Operation) sum.lhs;
+		assertEquals(ExpressionType.PIXEL, sum.getType());
+		assertEquals(ExpressionType.PIXEL, product.getType());
+		assertEquals(ExpressionType.PIXEL, product.lhs.getType());
+		assertEquals(ExpressionType.SCALAR, product.rhs.getType());
+		assertEquals(ExpressionType.PIXEL, ((VariableAssignment) ast.root.body.get(0)).expression.getType());
+	}
+	@Test
+	void testInferredTypeOfInvalidOperation() {
+
+		AST ast = resolved("p { width: 1px + 2% * 3; }");
+		new Checker().check(ast);
+		Operation sum = (Operation) ((Declaration) ((Stylerule) ast.root.body.get(0)).body.get(0)).expression;
+		assertEquals(ExpressionType.PERCENTAGE, sum.rhs.getType());
+		assertEquals("The types have to be equal to each other when adding or subtracting.", sum.getError().description);
+		assertEquals(1, ast.getErrors().size());
+	}
+	@Test
+	void testParallelSameErrors() {
+
+		//Enough rules for several tasks, with variables and errors throughout
+		StringBuilder icss = new StringBuilder();
+		for (int i = 0; i < 1000; i++) {
+			icss.append("V").append(i).append(" := ").append(i % 3 == 0 ? "#ff0000" : i + "px").append(";\n");
+			icss.append("p { width: V").append(i).append("; ");
+			icss.append(i % 7 == 0 ? "foo: 1px; " : "").append(i % 11 == 0 ? "color: 1px + 1%; " : "").append("}\n");
+		}
+		AST sequential = resolved(icss.toString());
+		new Checker().check(sequential);
+		AST parallel = resolved(icss.toString());
+		new Checker().check(parallel, new ForkJoinPool(4));
+
+		assertFalse(sequential.getErrors().isEmpty());
+		assertEquals(sequential.getErrors().toString(), parallel.getErrors().toString());
+	}
+}
@@ -0,0 +1,63 @@
+package nl.han.ica.icss.checker;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import nl.han.ica.icss.ast.types.ExpressionType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+class PropertyRegistryTest {
+
+	PropertyRegistry load(String text) throws IOException {
+
+		return PropertyRegistry.load(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	@Test
+	void testLoad() throws IOException {
+
+		PropertyRegistry registry = load("# Sizes\n\nwidth: PERCENTAGE | PIXEL\ncolor: COLOR\n");
+		assertTrue(registry.allows("width", ExpressionType.PIXEL));
+		assertTrue(registry.allows("width", ExpressionType.PERCENTAGE));
+		assertFalse(registry.allows("width", ExpressionType.COLOR));
+		assertTrue(registry.allows("color", ExpressionType.COLOR));
+		assertFalse(registry.isKnown("height"));
+		assertEquals(0, registry.getAllowedTypes("height"));
+	}
+	@Test
+	void testRejectInvalidLines() {
+
+		IllegalArgumentException unknownType = assertThrows(IllegalArgumentException.class,
+				() -> load("color: COLOR\nwidth: PIXELS\n"));
+		assertEquals("Line 2: unknown type 'PIXELS'", unknownType.getMessage());
+		assertThrows(IllegalArgumentException.class, () -> load("width PIXEL\n"));
+	}
+	@Test
+	void testManyProperties() {
+
+		//Enough names to fill the table with collisions and long probe chains
+		Map<String, Integer> properties = new HashMap<>();
+		for (int i = 0; i < 1000; i++) {
+			properties.put("property-" + i, ExpressionType.values()[i % 4].mask());
+		}
+		PropertyRegistry registry = new PropertyRegistry(properties);
+		for (int i = 0; i < 1000; i++) {
+			assertTrue(registry.allows("property-" + i, ExpressionType.values()[i % 4]));
+			assertFalse(registry.isKnown("other-" + i));
+		}
+	}
+	@Test
+	void testDefault() {
+
+		PropertyRegistry registry = PropertyRegistry.getDefault();
+		assertTrue(registry.allows("height", ExpressionType.PIXEL));
+		assertFalse(registry.allows("height", ExpressionType.PERCENTAGE));
+		assertTrue(registry.allows("background-color", ExpressionType.COLOR));
+		assertSame(registry, PropertyRegistry.getDefault());
+	}
+}
@@ -0,0 +1,153 @@
+package nl.han.ica.icss.generator;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import nl.han.ica.icss.Pipeline;
+import nl.han.ica.icss.ast.*;
+import nl.han.ica.icss.ast.literals.ColorLiteral;
+import nl.han.ica.icss.ast.literals.PixelLiteral;
+import nl.han.ica.icss.ast.selectors.ClassSelector;
+import nl.han.ica.icss.ast.selectors.TagSelector;
+import nl.han.ica.icss.parser.Fixtures;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPInputStream;
+
+class GeneratorTest {
+
+	static final String LEVEL0_CSS =
+			"p {\n" +
+			"  background-color: #ffffff;\n" +
+			"  width: 500px;\n" +
+			"}\n" +
+			"\n" +
+			"a {\n" +
+			"  color: #ff0000;\n" +
+			"}\n" +
+			"\n" +
+			"#menu {\n" +
+			"  width: 520px;\n" +
+			"}\n" +
+			"\n" +
+			".menu {\n" +
+			"  color: #000000;\n" +
+			"}\n";
+
+	@Test
+	void testGenerateLevel0() {
+
+		AST ast = Fixtures.uncheckedLevel0();
+		assertEquals(LEVEL0_CSS, new Generator().generate(ast));
+	}
+	@Test
+	void testGenerateLevel0Minified() {
+
+		Generator generator = new Generator();
+		generator.setMinified(true);
+		assertEquals("p{background-color:#fff;width:500px}a{color:#f00}#menu{width:520px}.menu{color:#000}",
+				generator.generate(Fixtures.uncheckedLevel0()));
+	}
+	@Test
+	void testGenerateToWriter() throws IOException {
+
+		StringWriter writer = new StringWriter();
+		new Generator().generate(Fixtures.uncheckedLevel0(), writer);
+		assertEquals(LEVEL0_CSS, writer.toString());
+	}
+	@Test
+	void testGenerateInParallel() throws IOException {
+
+		//Enough rules for several chunks, with variables in between that are not part of the output
+		Stylesheet stylesheet = new Stylesheet();
+		for (int i = 0; i < 2000; i++) {
+			if (i % 700 == 0) {
+				stylesheet.addChild((new VariableAssignment())
+						.addChild(new VariableReference("Width"))
+						.addChild(new PixelLiteral(i)));
+			}
+			stylesheet.addChild((new Stylerule())
+					.addChild(new ClassSelector(".rule" + i))
+					.addChild((new Declaration("width"))
+							.addChild(new PixelLiteral(i))));
+		}
+		AST ast = new AST(stylesheet);
+		String sequential = new Generator().generate(ast);
+
+		StringBuilder css = new StringBuilder();
+		new Generator().generate(ast, css, ForkJoinPool.commonPool());
+		assertEquals(sequential, css.toString());
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		new Generator().generate(ast, Channels.newChannel(bytes), ForkJoinPool.commonPool());
+		assertEquals(sequential, new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+	}
+	@Test
+	void testGenerateToChannel() throws IOException {
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		new Generator().generate(Fixtures.uncheckedLevel0(), Channels.newChannel(bytes));
+		assertEquals(LEVEL0_CSS, new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+	}
+	@Test
+	void testGenerateWithGzipCopy() throws IOException {
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		try (GzipCopyChannel channel = new GzipCopyChannel(Channels.newChannel(bytes), compressed, 9)) {
+			new Generator().generate(Fixtures.uncheckedLevel0(), channel);
+		}
+		assertEquals(LEVEL0_CSS, new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+
+		ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+		try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+			byte[] buffer = new byte[1024];
+			for (int read; (read = gzip.read(buffer)) != -1; ) {
+				decompressed.write(buffer, 0, read);
+			}
+		}
+		assertEquals(LEVEL0_CSS, new String(decompressed.toByteArray(), StandardCharsets.UTF_8));
+	}
+	@Test
+	void testRejectInvalidGzipLevel() {
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		assertThrows(IllegalArgumentException.class,
+				() -> new GzipCopyChannel(Channels.newChannel(bytes), new ByteArrayOutputStream(), 10));
+		assertThrows(IllegalArgumentException.class, () -> new Pipeline().setGzipLevel(0));
+		new Pipeline().setGzipLevel(-1);
+	}
+	@Test
+	void testGenerateCustomProperties() {
+
+		//Variables used on their own become properties, the computed width is still evaluated
+		Pipeline pipeline = new Pipeline();
+		pipeline.setCustomProperties(true);
+		pipeline.setMinified(true);
+		pipeline.parseString("LinkColor := #ff0000;\nParWidth := 500px;\n" +
+				"p { width: ParWidth; }\na { color: LinkColor; }\n#menu { width: ParWidth + 20px; }\n");
+		assertTrue(pipeline.check());
+		assertTrue(pipeline.transform());
+		assertEquals(":root{--LinkColor:#f00;--ParWidth:500px}p{width:var(--ParWidth)}a{color:var(--LinkColor)}" +
+				"#menu{width:520px}", pipeline.generate());
+	}
+	@Test
+	void testGenerateCanonical() {
+
+		//margin would override margin-top if it came first, so the two keep their order
+		Stylesheet stylesheet = new Stylesheet();
+		stylesheet.addChild((new Stylerule())
+				.addChild(new TagSelector("p"))
+				.addChild((new Declaration("width")).addChild(new PixelLiteral(1)))
+				.addChild((new Declaration("margin-top")).addChild(new PixelLiteral(2)))
+				.addChild((new Declaration("margin")).addChild(new PixelLiteral(3)))
+				.addChild((new Declaration("color")).addChild(new ColorLiteral("#FF0000"))));
+		Generator generator = new Generator();
+		generator.setCanonical(true);
+		assertEquals("p {\n  color: #ff0000;\n  margin-top: 2px;\n  margin: 3px;\n  width: 1px;\n}\n",
+				generator.generate(new AST(stylesheet)));
+	}
+}
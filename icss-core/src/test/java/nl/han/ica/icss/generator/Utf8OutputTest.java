@@ -0,0 +1,63 @@
+package nl.han.ica.icss.generator;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+class Utf8OutputTest {
+
+	@Test
+	void testEncodesLikeString() throws IOException {
+
+		//ASCII, two and three byte characters, a surrogate pair split over two appends and a lone surrogate
+		String text = "a { content: caf\u00e9 \u20ac \ud83d\ude00 \ud800x; }";
+		int split = text.indexOf('\ude00');
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (Utf8Output out = new Utf8Output(Channels.newChannel(bytes))) {
+			out.append(text, 0, split).append(text.charAt(split)).append(text, split + 1, text.length());
+			out.flush();
+		}
+		assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), bytes.toByteArray());
+	}
+	@Test
+	void testAppendIntOverBuffers() throws IOException {
+
+		//More than one buffer, so digits and characters also end up on buffer boundaries
+		StringBuilder expected = new StringBuilder();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (Utf8Output out = new Utf8Output()) {
+			for (int i = 0; expected.length() < 3 * Utf8Output.BUFFER_SIZE; i++) {
+				int value = i % 3 == 0 ? -i * 7919 : i * 104729;
+				expected.append(value).append(i % 5 == 0 ? "\u00e9" : ";");
+				out.appendInt(value).append(i % 5 == 0 ? "\u00e9" : ";");
+			}
+			out.appendInt(Integer.MIN_VALUE).appendInt(Integer.MAX_VALUE);
+			expected.append(Integer.MIN_VALUE).append(Integer.MAX_VALUE);
+			for (ByteBuffer buffer : out.getBuffers()) {
+				Channels.newChannel(bytes).write(buffer);
+			}
+		}
+		assertEquals(expected.toString(), new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+	}
+	@Test
+	void testLoneHighSurrogateBeforeIntAndFlush() throws IOException {
+
+		//A high surrogate followed by a number, and one at the end of the output
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (Utf8Output out = new Utf8Output(Channels.newChannel(bytes))) {
+			out.append('\ud800').appendInt(12).append("a\ud83d");
+			out.flush();
+		}
+		assertArrayEquals("\ud80012a\ud83d".getBytes(StandardCharsets.UTF_8), bytes.toByteArray());
+		try (Utf8Output out = new Utf8Output()) {
+			out.append("b\ud83d");
+			ByteBuffer[] buffers = out.getBuffers();
+			assertEquals(1, buffers.length);
+			assertEquals("b?", StandardCharsets.UTF_8.decode(buffers[0]).toString());
+		}
+	}
+}
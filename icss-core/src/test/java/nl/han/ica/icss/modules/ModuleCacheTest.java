@@ -0,0 +1,104 @@
+package nl.han.ica.icss.modules;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import nl.han.ica.icss.Pipeline;
+import nl.han.ica.icss.ast.AST;
+import nl.han.ica.icss.ast.literals.PixelLiteral;
+import nl.han.ica.icss.transforms.EvalExpressions;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static nl.han.ica.icss.Sources.checked;
+import static nl.han.ica.icss.Sources.css;
+
+class ModuleCacheTest {
+
+	Path write(Path file, String icss) throws IOException {
+
+		return Files.write(file, icss.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void testLoadOnce() throws IOException {
+
+		Path directory = Files.createTempDirectory("icss-modules");
+		Path base = write(directory.resolve("base.icss"), "Base := 4px;");
+		ModuleCache cache = new ModuleCache();
+		Module module = cache.load(base, null);
+		assertFalse(module.hasErrors());
+		assertSame(module, cache.load(base, null));
+	}
+	@Test
+	void testUpToDate() throws IOException {
+
+		Path directory = Files.createTempDirectory("icss-modules");
+		Path base = write(directory.resolve("base.icss"), "Base := 4px;");
+		ModuleCache cache = new ModuleCache();
+		cache.load(base, null);
+		assertTrue(cache.isUpToDate());
+		write(base, "Base := 6px;");
+		assertFalse(cache.isUpToDate());
+		assertTrue(new ModuleCache().isUpToDate());
+	}
+	@Test
+	void testOnlyLoadInRoot() throws IOException {
+
+		Path directory = Files.createTempDirectory("icss-modules");
+		Path root = Files.createDirectory(directory.resolve("root"));
+		Path outside = write(directory.resolve("outside.icss"), "Outside := 4px;");
+		Path inside = write(root.resolve("inside.icss"), "Inside := 4px;");
+		ModuleCache cache = new ModuleCache(root);
+		assertFalse(cache.load(inside, null).hasErrors());
+		assertEquals("'outside.icss' is outside of the import directory", cache.load(outside, null).getErrors().get(0));
+		assertNull(cache.currentHash(outside));
+	}
+	@Test
+	void testImportedValues() throws IOException {
+
+		//The values of a module include those of the files it imports
+		Path directory = Files.createTempDirectory("icss-modules");
+		Path base = write(directory.resolve("base.icss"), "Base := 4px;");
+		Path theme = write(directory.resolve("theme.icss"), "@import \"base.icss\";\nDouble := Base * 2;");
+		Module module = new ModuleCache().load(theme, null);
+		assertEquals(new PixelLiteral(4), module.getVariableValues().get("Base"));
+		assertEquals(new PixelLiteral(8), module.getVariableValues().get("Double"));
+		assertEquals(base.toAbsolutePath().normalize(), module.getDependencies().get(0));
+	}
+	@Test
+	void testShadowImportedVariable() throws IOException {
+
+		Path directory = Files.createTempDirectory("icss-modules");
+		write(directory.resolve("base.icss"), "Base := 4px;");
+		Path theme = write(directory.resolve("theme.icss"), "@import \"base.icss\";\nBase := 6px;\nDouble := Base * 2;");
+		Module module = new ModuleCache().load(theme, null);
+		assertEquals(new PixelLiteral(6), module.getVariableValues().get("Base"));
+		assertEquals(new PixelLiteral(12), module.getVariableValues().get("Double"));
+
+		//A file importing the theme sees its values, and its own definitions shadow them in turn
+		AST ast = checked("@import \"theme.icss\";\nBase := 1px;\np { width: Base; height: Double; }",
+				directory.resolve("page.icss"));
+		new EvalExpressions().apply(ast);
+		assertEquals("p{width:1px;height:12px}", css(ast));
+	}
+	@Test
+	void testImportCycle() throws IOException {
+
+		Path directory = Files.createTempDirectory("icss-modules");
+		Path a = write(directory.resolve("a.icss"), "@import \"b.icss\";\nA := 1px;");
+		write(directory.resolve("b.icss"), "@import \"a.icss\";\nB := 1px;");
+		Pipeline pipeline = new Pipeline();
+		pipeline.setSourcePath(a);
+		pipeline.parseString(new String(Files.readAllBytes(a), StandardCharsets.UTF_8));
+		assertFalse(pipeline.check());
+		assertTrue(pipeline.getErrors().toString().contains("Import cycle"), pipeline.getErrors().toString());
+
+		Module self = new ModuleCache().load(a, a);
+		assertTrue(self.hasErrors());
+		assertTrue(self.getErrors().get(0).startsWith("Import cycle"));
+	}
+}
@@ -0,0 +1,71 @@
+package nl.han.ica.icss.scope;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import nl.han.ica.icss.ast.*;
+import nl.han.ica.icss.ast.literals.PixelLiteral;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static nl.han.ica.icss.Sources.parsed;
+
+class ResolverTest {
+
+	VariableAssignment bindingOf(ASTNode rule, int index) {
+
+		return ((VariableReference) ((Declaration) ((Stylerule) rule).body.get(index)).expression).declaration;
+	}
+
+	@Test
+	void testBindToNearestDefinition() {
+
+		//Nested rules see the variables of the rules they are in, other rules only the global one
+		AST ast = parsed("W := 1px; p { W := 2px; width: W; a { width: W; } } b { width: W; }");
+		Resolver resolver = new Resolver();
+		resolver.resolve(ast);
+		assertTrue(resolver.getUndefinedReferences().isEmpty());
+
+		VariableAssignment global = (VariableAssignment) ast.root.body.get(0);
+		Stylerule p = (Stylerule) ast.root.body.get(1);
+		VariableAssignment local = (VariableAssignment) p.body.get(0);
+		assertSame(local, bindingOf(p, 1));
+		assertSame(local, bindingOf(p.body.get(2), 0));
+		assertSame(global, bindingOf(ast.root.body.get(2), 0));
+		assertEquals(1, resolver.getUsages(global).size());
+		assertEquals(2, resolver.getUsages(local).size());
+	}
+	@Test
+	void testUndefinedReferences() {
+
+		AST ast = parsed("A := B + 1px; B := 1px; C := C + 1px; p { width: D; }");
+		Resolver resolver = new Resolver();
+		resolver.resolve(ast);
+		List<VariableReference> undefined = resolver.getUndefinedReferences();
+		assertEquals(3, undefined.size());
+		assertEquals("Variable 'B' is used before it is defined!", undefined.get(0).getError().description);
+		assertEquals("Variable 'C' is defined in terms of itself!", undefined.get(1).getError().description);
+		assertEquals("Variable 'D' not defined!", undefined.get(2).getError().description);
+		assertNull(undefined.get(0).declaration);
+	}
+	@Test
+	void testImportedVariables() {
+
+		//The file's own W shadows the imported one, Imported is bound to its imported value
+		Map<String, Literal> imported = new HashMap<>();
+		imported.put("Imported", new PixelLiteral(5));
+		imported.put("W", new PixelLiteral(7));
+		AST ast = parsed("W := 1px; p { width: Imported; height: W; }");
+		Resolver resolver = new Resolver(imported);
+		resolver.resolve(ast);
+		assertTrue(resolver.getUndefinedReferences().isEmpty());
+
+		Stylerule p = (Stylerule) ast.root.body.get(1);
+		assertEquals(new PixelLiteral(5), bindingOf(p, 0).expression);
+		assertSame(ast.root.body.get(0), bindingOf(p, 1));
+		assertSame(ast.root.body.get(0), resolver.getGlobalVariables().get("W"));
+		assertSame(bindingOf(p, 0), resolver.getGlobalVariables().get("Imported"));
+	}
+}
@@ -0,0 +1,55 @@
+package nl.han.ica.icss.scope;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Collections;
+
+class SymbolTableTest {
+
+	@Test
+	void testRestoreShadowedBinding() {
+
+		SymbolTable<String> table = new SymbolTable<>();
+		table.define("W", "1px");
+		table.pushScope();
+		table.define("W", "2px");
+		table.define("H", "3px");
+		assertEquals("2px", table.lookup("W"));
+		assertEquals(2, table.getDepth());
+
+		table.popScope();
+		assertEquals("1px", table.lookup("W"));
+		assertFalse(table.isDefined("H"));
+		assertNull(table.lookup("H"));
+		assertEquals(1, table.getDepth());
+	}
+	@Test
+	void testDefineTwiceInOneScope() {
+
+		//The scope undoes both definitions, the outer binding comes back
+		SymbolTable<String> table = new SymbolTable<>();
+		table.define("W", "1px");
+		table.pushScope();
+		table.define("W", "2px");
+		table.define("W", "3px");
+		table.pushScope();
+		table.define("W", "4px");
+		table.popScope();
+		assertEquals("3px", table.lookup("W"));
+		table.popScope();
+		assertEquals("1px", table.lookup("W"));
+	}
+	@Test
+	void testGlobals() {
+
+		SymbolTable<String> table = new SymbolTable<>(Collections.singletonMap("Imported", "5px"));
+		table.pushScope();
+		table.define("Imported", "6px");
+		assertEquals("6px", table.getBindings().get("Imported"));
+		table.popScope();
+		assertEquals(Collections.singletonMap("Imported", "5px"), table.getBindings());
+		assertThrows(UnsupportedOperationException.class, () -> table.getBindings().put("W", "1px"));
+		assertThrows(IllegalStateException.class, table::popScope);
+	}
+}
@@ -0,0 +1,71 @@
+package nl.han.ica.icss.transforms;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import nl.han.ica.icss.ast.*;
+import nl.han.ica.icss.ast.literals.PixelLiteral;
+
+import static nl.han.ica.icss.Sources.checked;
+import static nl.han.ica.icss.Sources.css;
+
+class CommonSubexpressionsTest {
+
+	Declaration declaration(AST ast, int rule, int index) {
+
+		return (Declaration) ((Stylerule) ast.root.body.get(rule)).body.get(index);
+	}
+
+	@Test
+	void testNumberIdenticalOperations() {
+
+		AST ast = checked("W := 10px; p { width: W + 2px; } a { width: W + 2px; height: W + 3px; }");
+		CommonSubexpressions common = new CommonSubexpressions(ast.root);
+		assertEquals(common.numberAt(0), common.numberAt(1));
+		assertTrue(common.isRepeated(common.numberAt(0)));
+		assertNotEquals(common.numberAt(0), common.numberAt(2));
+		assertFalse(common.isRepeated(common.numberAt(2)));
+	}
+	@Test
+	void testShadowedVariableIsNotIdentical() {
+
+		AST ast = checked("W := 10px; p { width: W + 2px; } a { W := 20px; width: W + 2px; }");
+		CommonSubexpressions common = new CommonSubexpressions(ast.root);
+		assertNotEquals(common.numberAt(0), common.numberAt(1));
+
+		new EvalExpressions().apply(ast);
+		assertEquals("p{width:12px}a{width:22px}", css(ast));
+	}
+	@Test
+	void testReuseSavedValues() {
+
+		//The second width reuses the whole sum, the height reuses the product inside it
+		AST ast = checked("W := 10px; p { width: W * 2 + 1px; } a { width: W * 2 + 1px; height: W * 2; }");
+		EvalExpressions evaluator = new EvalExpressions();
+		evaluator.apply(ast);
+		assertEquals(3, evaluator.getSavedEvaluations());
+		assertEquals("p{width:21px}a{width:21px;height:20px}", css(ast));
+	}
+	@Test
+	void testFirstOccurrenceNotReached() {
+
+		//The first width fails on B before it gets to W * 2, the second one evaluates it instead
+		AST ast = checked("A := 2000000000px; B := A + A; W := 3px; p { width: B + W * 2; } a { width: W * 2; }");
+		EvalExpressions evaluator = new EvalExpressions();
+		evaluator.apply(ast);
+		assertEquals(1, evaluator.getErrors().size());
+		assertFalse(declaration(ast, 3, 0).hasError());
+		assertEquals(new PixelLiteral(6), declaration(ast, 4, 0).expression);
+	}
+	@Test
+	void testOverflowInEveryOccurrence() {
+
+		//Like without saving, each declaration with the overflowing product gets an error
+		AST ast = checked("A := 2000000000px; p { width: A * 2000000000 * 5 + 1px; } a { width: A * 2000000000 * 5 + 2px; }");
+		EvalExpressions evaluator = new EvalExpressions();
+		evaluator.apply(ast);
+		assertEquals(2, evaluator.getErrors().size());
+		assertTrue(declaration(ast, 1, 0).hasError());
+		assertTrue(declaration(ast, 2, 0).hasError());
+	}
+}
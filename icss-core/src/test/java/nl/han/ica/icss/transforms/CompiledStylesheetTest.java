@@ -0,0 +1,66 @@
+package nl.han.ica.icss.transforms;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import nl.han.ica.icss.ast.AST;
+import nl.han.ica.icss.checker.SemanticError;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static nl.han.ica.icss.Sources.checked;
+import static nl.han.ica.icss.Sources.css;
+
+class CompiledStylesheetTest {
+
+	//Levels wider than one task and rules that use every level
+	String theme(int overflowing) {
+
+		StringBuilder icss = new StringBuilder("Base := 1px;\n");
+		for (int i = 0; i < 500; i++) {
+			icss.append("L").append(i).append(" := Base * ").append(i == overflowing ? 2000000000 : i).append(";\n");
+			icss.append("M").append(i).append(" := L").append(i).append(" + Base;\n");
+		}
+		for (int i = 0; i < 500; i++) {
+			icss.append("p { width: M").append(i).append("; height: L").append(i).append(" * 2; }\n");
+		}
+		return icss.toString();
+	}
+
+	@Test
+	void testGlobalLevels() {
+
+		//C uses A and B, D uses C, E only uses A
+		CompiledStylesheet chain = CompiledStylesheet.compile(
+				checked("A := 1px; B := 2px; C := A + B; D := C * 2; E := A * 3; p { width: D; }"));
+		assertEquals(3, chain.getGlobalLevelCount());
+		assertEquals(1, CompiledStylesheet.compile(checked("A := 1px; B := 2px; p { width: A + B; }"))
+				.getGlobalLevelCount());
+		assertEquals(0, CompiledStylesheet.compile(checked("p { width: 1px; }")).getGlobalLevelCount());
+
+		//A rule-local variable is not a global, it does not add a level
+		assertEquals(1, CompiledStylesheet.compile(checked("A := 1px; p { B := A * 2; width: B; }"))
+				.getGlobalLevelCount());
+	}
+	@Test
+	void testParallelSameResult() {
+
+		AST sequential = checked(theme(-1));
+		assertTrue(CompiledStylesheet.compile(sequential).evaluate().isEmpty());
+		AST parallel = checked(theme(-1));
+		CompiledStylesheet compiled = CompiledStylesheet.compile(parallel);
+		assertEquals(3, compiled.getGlobalLevelCount());
+		assertTrue(compiled.evaluate(new ForkJoinPool(4)).isEmpty());
+		assertEquals(css(sequential), css(parallel));
+	}
+	@Test
+	void testParallelSameErrors() {
+
+		//The height that doubles L250 overflows
+		List<SemanticError> sequential = CompiledStylesheet.compile(checked(theme(250))).evaluate();
+		List<SemanticError> parallel = CompiledStylesheet.compile(checked(theme(250))).evaluate(new ForkJoinPool(4));
+		assertFalse(sequential.isEmpty());
+		assertEquals(sequential.toString(), parallel.toString());
+	}
+}
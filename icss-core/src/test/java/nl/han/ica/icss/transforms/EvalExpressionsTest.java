@@ -0,0 +1,70 @@
+package nl.han.ica.icss.transforms;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import nl.han.ica.icss.Pipeline;
+import nl.han.ica.icss.ast.*;
+import nl.han.ica.icss.ast.literals.PixelLiteral;
+
+import static nl.han.ica.icss.Sources.checked;
+import static nl.han.ica.icss.Sources.parsed;
+import static nl.han.ica.icss.Sources.css;
+
+class EvalExpressionsTest {
+
+	@Test
+	void testEvaluate() {
+
+		AST ast = checked("W := 10px; Half := W * 2 - 5px; p { width: Half + W; max-width: 50%; }");
+		EvalExpressions evaluator = new EvalExpressions();
+		evaluator.apply(ast);
+		assertTrue(evaluator.getErrors().isEmpty());
+		assertEquals("p{width:25px;max-width:50%}", css(ast));
+	}
+	@Test
+	void testOverflowReportedOnce() {
+
+		//Only the sum overflows, the declaration that uses it fails without a second error
+		AST ast = checked("A := 2000000000px; B := A + A; p { width: B; height: A; }");
+		EvalExpressions evaluator = new EvalExpressions();
+		evaluator.apply(ast);
+		assertEquals(1, evaluator.getErrors().size());
+		Stylerule rule = (Stylerule) ast.root.body.get(2);
+		assertTrue(((Declaration) rule.body.get(0)).expression instanceof VariableReference);
+		assertEquals(new PixelLiteral(2000000000), ((Declaration) rule.body.get(1)).expression);
+	}
+	@Test
+	void testNotTransformedAfterOverflow() {
+
+		Pipeline pipeline = new Pipeline();
+		pipeline.parseString("A := 2000000000px; p { width: A + A; }");
+		assertTrue(pipeline.check());
+		assertFalse(pipeline.transform());
+		assertFalse(pipeline.isTransformed());
+	}
+	@Test
+	void testUnresolvedReference() {
+
+		//Not bound by a resolver: reported on the declaration, the other one is still evaluated
+		AST ast = parsed("p { width: Foo + 1px; height: 2px; }");
+		EvalExpressions evaluator = new EvalExpressions();
+		evaluator.apply(ast);
+		assertEquals(1, evaluator.getErrors().size());
+		assertEquals("Variable 'Foo' is not resolved.", evaluator.getErrors().get(0).description);
+		assertEquals(new PixelLiteral(2), ((Declaration) ((Stylerule) ast.root.body.get(0)).body.get(1)).expression);
+	}
+	@Test
+	void testNotTransformedAfterFailedCheck() {
+
+		for (String icss : new String[] {"p { width: Foo; }", "A := A + 1px; p { width: A; }",
+				"p { width: B; } B := 1px;", "p { foo: 10px; }"}) {
+			Pipeline pipeline = new Pipeline();
+			pipeline.parseString(icss);
+			assertFalse(pipeline.check());
+			assertFalse(pipeline.isCheckPassed());
+			assertFalse(pipeline.transform(), icss);
+			assertFalse(pipeline.isTransformed());
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package nl.han.ica.icss.transforms;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import nl.han.ica.icss.ast.AST;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static nl.han.ica.icss.Sources.checked;
+import static nl.han.ica.icss.Sources.css;
+
+class ExtractCustomPropertiesTest {
+
+	String extracted(AST ast, int expected) {
+
+		ExtractCustomProperties extractor = new ExtractCustomProperties();
+		extractor.apply(ast);
+		assertEquals(expected, extractor.getExtracted());
+		EvalExpressions evaluator = new EvalExpressions();
+		evaluator.apply(ast);
+		assertTrue(evaluator.getErrors().isEmpty());
+		return css(ast);
+	}
+
+	//Nested rules are only written once flattened
+	String nested(AST ast) {
+
+		new ExtractCustomProperties().apply(ast);
+		new EvalExpressions().apply(ast);
+		new RemoveNesting().apply(ast);
+		return css(ast);
+	}
+
+	@Test
+	void testRootAfterLastUsedVariable() {
+
+		//The property rule has to come after B is assigned, the order of the rules does not matter to the browser
+		AST ast = checked("A := 1px; p { width: A; } B := #ff0000; a { color: B; }");
+		assertEquals("p{width:var(--A)}:root{--A:1px;--B:#f00}a{color:var(--B)}", extracted(ast, 2));
+	}
+	@Test
+	void testAssignedMoreThanOnce() {
+
+		//A property has one value, so C keeps its value at every use
+		AST ast = checked("C := #ff0000; a { color: C; } C := #00ff00; b { color: C; } W := 1px; p { width: W; }");
+		assertEquals("a{color:#f00}b{color:#0f0}:root{--W:1px}p{width:var(--W)}", extracted(ast, 1));
+	}
+	@Test
+	void testRuleLocalShadowing() {
+
+		AST ast = checked("C := #ff0000; p { C := #00ff00; color: C; a { color: C; } } b { color: C; }");
+		assertEquals(":root{--C:#f00}p{color:#0f0}p a{color:#0f0}b{color:var(--C)}", nested(ast));
+	}
+	@Test
+	void testImportedVariables() throws IOException {
+
+		//Imported variables keep their value, the file's own variables become properties
+		Path directory = Files.createTempDirectory("icss-properties");
+		Files.write(directory.resolve("theme.icss"), "Link := #0000ff;\nW := 5px;".getBytes(StandardCharsets.UTF_8));
+		AST ast = checked("@import \"theme.icss\";\nW := 1px;\na { color: Link; width: W; }",
+				directory.resolve("page.icss"));
+		assertEquals(":root{--W:1px}a{color:#00f;width:var(--W)}", extracted(ast, 1));
+	}
+	@Test
+	void testComputedValues() {
+
+		//W is only used in a sum, changing a property would not change it
+		AST ast = checked("W := 10px; p { width: W + 1px; }");
+		assertEquals("p{width:11px}", extracted(ast, 0));
+	}
+}
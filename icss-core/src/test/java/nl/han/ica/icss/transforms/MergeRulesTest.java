@@ -0,0 +1,78 @@
+package nl.han.ica.icss.transforms;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import nl.han.ica.icss.Pipeline;
+import nl.han.ica.icss.ast.AST;
+import nl.han.ica.icss.ast.PropertyName;
+
+import java.util.Collections;
+
+import static nl.han.ica.icss.Sources.checked;
+import static nl.han.ica.icss.Sources.css;
+
+class MergeRulesTest {
+
+	AST merged(String icss) {
+
+		AST ast = checked(icss);
+		new MergeRules().apply(ast);
+		return ast;
+	}
+
+	@Test
+	void testMergeSameDeclarations() {
+
+		AST ast = merged("a { color: #ff0000; width: 10px; } p { margin: 5px; } b { color: #ff0000; width: 10px; }");
+		assertEquals("a,b{color:#f00;width:10px}p{margin:5px}", css(ast));
+	}
+	@Test
+	void testKeepOrderOfSameProperty() {
+
+		//.y can not move above the second .x rule, which also sets the width
+		AST ast = merged(".x { width: 10px; } .x { width: 0px; } .y { width: 10px; }");
+		assertEquals(".x{width:10px}.x{width:0}.y{width:10px}", css(ast));
+	}
+	@Test
+	void testKeepOrderOfShorthand() {
+
+		//margin sets margin-top too, an element with both classes would lose its margin-top
+		AST ast = merged(".x { margin-top: 10px; } .x { margin: 0px; } .y { margin-top: 10px; }");
+		assertEquals(".x{margin-top:10px}.x{margin:0}.y{margin-top:10px}", css(ast));
+	}
+	@Test
+	void testMergeAcrossUnrelatedProperty() {
+
+		AST ast = merged(".x { margin-top: 10px; } .x { color: #000000; } .y { margin-top: 10px; }");
+		assertEquals(".x,.y{margin-top:10px}.x{color:#000}", css(ast));
+	}
+	@Test
+	void testRelationKeysMatchRelated() {
+
+		String[] properties = {"margin", "margin-top", "width", "height", "inline-size", "min-width", "top", "inset",
+				"inset-block-start", "font", "font-size", "line-height", "gap", "row-gap", "column-gap", "columns",
+				"column-count", "color", "border-color", "border-top-color", "align-items", "place-items", "--a", "--b"};
+		for (String a : properties) {
+			for (String b : properties) {
+				boolean shareKey = !Collections.disjoint(PropertyName.relationKeys(a), PropertyName.relationKeys(b));
+				assertEquals(PropertyName.related(a, b), shareKey, a + " " + b);
+			}
+		}
+	}
+	@Test
+	void testOnlyInPipelineWhenEnabled() {
+
+		String icss = "a { color: #ff0000; } b { color: #ff0000; }";
+		Pipeline pipeline = new Pipeline();
+		pipeline.setMinified(true);
+		pipeline.parseString(icss);
+		assertTrue(pipeline.check() && pipeline.transform());
+		assertEquals("a{color:#f00}b{color:#f00}", pipeline.generate());
+
+		pipeline.setMergeRules(true);
+		pipeline.parseString(icss);
+		assertTrue(pipeline.check() && pipeline.transform());
+		assertEquals("a,b{color:#f00}", pipeline.generate());
+	}
+}
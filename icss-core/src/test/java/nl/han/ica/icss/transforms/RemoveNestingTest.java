@@ -0,0 +1,42 @@
+package nl.han.ica.icss.transforms;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import nl.han.ica.icss.ast.*;
+import nl.han.ica.icss.ast.selectors.ClassSelector;
+import nl.han.ica.icss.ast.selectors.TagSelector;
+
+import static nl.han.ica.icss.Sources.checked;
+import static nl.han.ica.icss.Sources.css;
+
+class RemoveNestingTest {
+
+	@Test
+	void testFlattenInSourceOrder() {
+
+		//Each nested rule comes right after the rule it is in, before the rules that follow that one
+		AST ast = checked(".a { width: 1px; p { width: 2px; b { width: 3px; } } i { width: 4px; } } .c { width: 5px; }");
+		new RemoveNesting().apply(ast);
+		assertEquals(".a{width:1px}.a p{width:2px}.a p b{width:3px}.a i{width:4px}.c{width:5px}", css(ast));
+		for (ASTNode rule : ast.root.body) {
+			for (ASTNode child : rule.getChildren()) {
+				assertFalse(child instanceof Stylerule);
+			}
+		}
+	}
+	@Test
+	void testCombineSelectorLists() {
+
+		//The grammar has no selector lists, merged rules do
+		AST ast = checked(".a { W := 2px; p { width: W; } }");
+		Stylerule outer = (Stylerule) ast.root.body.get(0);
+		outer.selectors.add(new ClassSelector(".b"));
+		((Stylerule) outer.body.get(1)).selectors.add(new TagSelector("i"));
+
+		new EvalExpressions().apply(ast);
+		new RemoveNesting().apply(ast);
+		//The outer rule only has a variable, so it is dropped
+		assertEquals(".a p,.a i,.b p,.b i{width:2px}", css(ast));
+	}
+}
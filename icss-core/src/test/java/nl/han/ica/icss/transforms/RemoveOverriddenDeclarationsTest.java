@@ -0,0 +1,80 @@
+package nl.han.ica.icss.transforms;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import nl.han.ica.icss.Pipeline;
+import nl.han.ica.icss.ast.*;
+import nl.han.ica.icss.ast.selectors.ClassSelector;
+
+import static nl.han.ica.icss.Sources.checked;
+import static nl.han.ica.icss.Sources.css;
+
+class RemoveOverriddenDeclarationsTest {
+
+	//Adds .y to the selectors of the rule at the index, the grammar has no selector lists
+	AST withY(String icss, int rule) {
+
+		AST ast = checked(icss);
+		((Stylerule) ast.root.body.get(rule)).selectors.add(new ClassSelector(".y"));
+		return ast;
+	}
+
+	@Test
+	void testRemoveInSameAndLaterRule() {
+
+		AST ast = checked("p { width: 1px; color: #ff0000; width: 2px; } a { color: #000000; } p { color: #00ff00; }");
+		RemoveOverriddenDeclarations remover = new RemoveOverriddenDeclarations();
+		remover.apply(ast);
+		assertEquals(2, remover.getRemovedDeclarations());
+		assertEquals("p{width:2px}a{color:#000}p{color:#0f0}", css(ast));
+	}
+	@Test
+	void testRemoveEmptyRule() {
+
+		AST ast = checked("p { width: 1px; } p { width: 2px; }");
+		new RemoveOverriddenDeclarations().apply(ast);
+		assertEquals(1, ast.root.body.size());
+		assertEquals("p{width:2px}", css(ast));
+	}
+	@Test
+	void testKeepWhenNotOverriddenForEverySelector() {
+
+		//The width still applies to .y and the height to .x
+		AST ast = withY(".x { width: 1px; height: 1px; } .x { width: 2px; } .y { height: 2px; }", 0);
+		RemoveOverriddenDeclarations remover = new RemoveOverriddenDeclarations();
+		remover.apply(ast);
+		assertEquals(0, remover.getRemovedDeclarations());
+	}
+	@Test
+	void testRemoveWhenOverriddenForEverySelector() {
+
+		AST ast = withY(".x { width: 1px; height: 1px; } .x { width: 2px; } .y { width: 3px; }", 0);
+		RemoveOverriddenDeclarations remover = new RemoveOverriddenDeclarations();
+		remover.apply(ast);
+		assertEquals(1, remover.getRemovedDeclarations());
+		assertEquals(".x,.y{height:1px}.x{width:2px}.y{width:3px}", css(ast));
+	}
+	@Test
+	void testLaterRuleWithSeveralSelectors() {
+
+		AST ast = withY(".x { width: 1px; height: 1px; } .x { width: 2px; }", 1);
+		new RemoveOverriddenDeclarations().apply(ast);
+		assertEquals(".x{height:1px}.x,.y{width:2px}", css(ast));
+	}
+	@Test
+	void testOnlyInPipelineWhenEnabled() {
+
+		String icss = "p { width: 1px; height: 1px; } p { width: 2px; }";
+		Pipeline pipeline = new Pipeline();
+		pipeline.setMinified(true);
+		pipeline.parseString(icss);
+		assertTrue(pipeline.check() && pipeline.transform());
+		assertEquals("p{width:1px;height:1px}p{width:2px}", pipeline.generate());
+
+		pipeline.setRemoveOverridden(true);
+		pipeline.parseString(icss);
+		assertTrue(pipeline.check() && pipeline.transform());
+		assertEquals("p{height:1px}p{width:2px}", pipeline.generate());
+	}
+}
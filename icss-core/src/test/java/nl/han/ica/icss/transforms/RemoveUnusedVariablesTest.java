@@ -0,0 +1,61 @@
+package nl.han.ica.icss.transforms;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import nl.han.ica.icss.ast.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static nl.han.ica.icss.Sources.checked;
+import static nl.han.ica.icss.Sources.css;
+
+class RemoveUnusedVariablesTest {
+
+	List<String> names(List<VariableAssignment> assignments) {
+
+		List<String> names = new ArrayList<>();
+		for (VariableAssignment assignment : assignments) {
+			names.add(assignment.name.name);
+		}
+		return names;
+	}
+
+	@Test
+	void testKeepChainOfUsedVariables() {
+
+		//C is used through B and A, E is dead and so is D, which only E uses
+		AST ast = checked("A := 1px; B := A + 1px; C := B * 2; D := 5px; E := D + C; p { width: C; }");
+		RemoveUnusedVariables remover = new RemoveUnusedVariables();
+		remover.apply(ast);
+		assertEquals(Arrays.asList("D", "E"), names(remover.getRemoved()));
+		assertEquals(4, ast.root.body.size());
+
+		new EvalExpressions().apply(ast);
+		assertEquals("p{width:4px}", css(ast));
+	}
+	@Test
+	void testRemoveWholeDeadChain() {
+
+		AST ast = checked("A := 1px; B := A * 2; C := B + A; p { width: 2px; }");
+		RemoveUnusedVariables remover = new RemoveUnusedVariables();
+		remover.apply(ast);
+		assertEquals(Arrays.asList("A", "B", "C"), names(remover.getRemoved()));
+		assertEquals(1, ast.root.body.size());
+	}
+	@Test
+	void testShadowedVariable() {
+
+		//The rule only uses its own W, the global one is dead; the unused one in the nested rule too
+		AST ast = checked("W := 1px; p { W := 2px; width: W; a { W := 3px; height: 4px; } }");
+		RemoveUnusedVariables remover = new RemoveUnusedVariables();
+		remover.apply(ast);
+		assertEquals(2, remover.getRemoved().size());
+		Stylerule rule = (Stylerule) ast.root.body.get(0);
+		assertTrue(rule.body.get(0) instanceof VariableAssignment);
+		assertSame(rule.body.get(0), ((VariableReference) ((Declaration) rule.body.get(1)).expression).declaration);
+		assertEquals(1, ((Stylerule) rule.body.get(2)).body.size());
+	}
+}
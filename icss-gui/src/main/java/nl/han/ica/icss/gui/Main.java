@@ -53,6 +53,7 @@ public class Main extends Application {
     public void start(Stage stage) {
         //Setup pipeline
         pipeline = new Pipeline();
+        pipeline.setWarnUnusedVariables(true);
 
         //Setup UI
         stage.setTitle(title);
@@ -137,6 +138,10 @@ public class Main extends Application {
         saveOutput.setOnAction(new EventHandler<ActionEvent>() {
             @Override
             public void handle(ActionEvent e) {
+                if (!pipeline.isTransformed()) {
+                    feedbackPane.addLine("Transform the input before saving the generated CSS.");
+                    return;
+                }
                 //Create file dialog
                 FileChooser fileChooser = new FileChooser();
                 fileChooser.setTitle("Save generated CSS...");
@@ -144,7 +149,12 @@ public class Main extends Application {
 
                 File file = fileChooser.showSaveDialog(stage);
                 if (file != null) {
-                    outputPane.writeToFile(file);
+                    //Generate straight to the file instead of copying the text of the output pane
+                    try {
+                        pipeline.generate(file.toPath());
+                    } catch (IOException ioe) {
+                        feedbackPane.addLine(ioe.toString());
+                    }
                 }
             }
         });
@@ -217,7 +227,14 @@ public class Main extends Application {
     private void transform() {
        feedbackPane.clear();
        feedbackPane.addLine("Applying transformations...");
-       pipeline.transform();
+       if (!pipeline.transform()) {
+           for (String e : pipeline.getErrors()) {
+               feedbackPane.addLine(e);
+           }
+       }
+       for (String notice : pipeline.getNotices()) {
+           feedbackPane.addLine(notice);
+       }
        astPane.update(pipeline.getAST());
        updateToolbar();
     }
@@ -239,8 +256,11 @@ public class Main extends Application {
 
         if (pipeline.isParsed()) {
             checkButton.setDisable(false);
-            if (pipeline.isChecked()) {
+            if (pipeline.isCheckPassed()) {
                 transformButton.setDisable(false);
+            }
+            //The generator needs evaluated expressions and flat rules
+            if (pipeline.isTransformed()) {
                 generateButton.setDisable(false);
             }
         }
@@ -1,9 +1,5 @@
 package nl.han.ica.icss.gui;
 
-import java.io.File;
-import java.io.FileOutputStream;
-import java.io.PrintStream;
-
 import javafx.geometry.Insets;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextArea;
@@ -33,13 +29,4 @@ public class OutputPane extends BorderPane {
 	public String getText() {
 		return content.getText();
 	}
-	public void writeToFile(File file) {
-		try {
-			PrintStream out = new PrintStream(new FileOutputStream(file));
-			out.print(this.getText());
-			out.close();
-		} catch(Exception exception) {
-			System.err.println(exception);
-		}
-	}
 }
@@ -0,0 +1,122 @@
+package nl.han.ica.icss.maven;
+
+import nl.han.ica.icss.build.ContentHash;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Remembers, per source file, the content hash of the source and its imports at the last successful compile.
+ *
+ * A source is only recompiled when its CSS is older than the source or one of its imports,
+ * and the hashes show that the contents really changed. Everything is recompiled when the compile options changed.
+ */
+class BuildState {
+
+    private static final String HASH = ".hash";
+    private static final String IMPORTS = ".imports";
+    //Not a path, so it can not clash with the keys of the sources
+    private static final String OPTIONS = "options";
+
+    private final Path file;
+    private final Properties properties = new Properties();
+
+    /**
+     * @param options The compile options, e.g. "minify=true;gzip=false". Output written with other options is stale.
+     */
+    BuildState(Path file, String options) throws IOException {
+        this.file = file;
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                properties.load(in);
+            }
+        }
+        String optionsHash = ContentHash.sha256(options.getBytes(StandardCharsets.UTF_8));
+        if (!optionsHash.equals(properties.getProperty(OPTIONS))) {
+            //Nothing was compiled with these options
+            properties.clear();
+            properties.setProperty(OPTIONS, optionsHash);
+        }
+    }
+
+    boolean isUpToDate(Path source, Path target) throws IOException {
+        String key = source.toString();
+        if (properties.getProperty(key + HASH) == null || !Files.exists(target)) {
+            return false;
+        }
+        List<Path> imports = getImports(key);
+
+        long targetTime = Files.getLastModifiedTime(target).toMillis();
+        boolean newer = Files.getLastModifiedTime(source).toMillis() > targetTime;
+        for (Path imported : imports) {
+            if (!Files.exists(imported) || Files.getLastModifiedTime(imported).toMillis() > targetTime) {
+                newer = true;
+            }
+        }
+        if (!newer) {
+            return true;
+        }
+        //Touched is not the same as changed, e.g. after a checkout
+        if (!digest(source, imports).equals(properties.getProperty(key + HASH))) {
+            return false;
+        }
+        //Newer than the inputs again, so the next build does not have to hash them
+        Files.setLastModifiedTime(target, FileTime.fromMillis(System.currentTimeMillis()));
+        return true;
+    }
+
+    void record(Path source, List<Path> imports) throws IOException {
+        String key = source.toString();
+        StringBuilder paths = new StringBuilder();
+        for (Path imported : imports) {
+            if (paths.length() > 0) {
+                paths.append(';');
+            }
+            paths.append(imported);
+        }
+        properties.setProperty(key + HASH, digest(source, imports));
+        properties.setProperty(key + IMPORTS, paths.toString());
+    }
+
+    void forget(Path source) {
+        properties.remove(source + HASH);
+        properties.remove(source + IMPORTS);
+    }
+
+    void save() throws IOException {
+        Files.createDirectories(file.getParent());
+        try (OutputStream out = Files.newOutputStream(file)) {
+            properties.store(out, "ICSS incremental build state");
+        }
+    }
+
+    private List<Path> getImports(String key) {
+        String value = properties.getProperty(key + IMPORTS);
+        if (value == null || value.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Path> imports = new ArrayList<>();
+        for (String path : value.split(";")) {
+            imports.add(Paths.get(path));
+        }
+        return imports;
+    }
+
+    private static String digest(Path source, List<Path> imports) throws IOException {
+        StringBuilder hashes = new StringBuilder(ContentHash.sha256(Files.readAllBytes(source)));
+        for (Path imported : imports) {
+            hashes.append(Files.exists(imported) ? ContentHash.sha256(Files.readAllBytes(imported)) : "missing");
+        }
+        return ContentHash.sha256(hashes.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,193 @@
+package nl.han.ica.icss.maven;
+
+import nl.han.ica.icss.build.BatchCompiler;
+import nl.han.ica.icss.build.CompileResult;
+import nl.han.ica.icss.generator.GzipCopyChannel;
+import org.apache.maven.model.Resource;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Compiles the .icss files of a project to CSS. Files whose CSS is up to date are skipped,
+ * the others are compiled in parallel.
+ */
+@Mojo(name = "compile", defaultPhase = LifecyclePhase.GENERATE_RESOURCES, threadSafe = true)
+public class CompileMojo extends AbstractMojo {
+
+    @Parameter(defaultValue = "${project.basedir}/src/main/icss", property = "icss.sourceDirectory")
+    private File sourceDirectory;
+
+    @Parameter(defaultValue = "${project.build.directory}/generated-resources/icss", property = "icss.outputDirectory")
+    private File outputDirectory;
+
+    /**
+     * The number of files compiled at the same time, 0 means one per processor.
+     */
+    @Parameter(defaultValue = "0", property = "icss.threads")
+    private int threads;
+
+    /**
+     * Writes minified CSS.
+     */
+    @Parameter(defaultValue = "false", property = "icss.minify")
+    private boolean minify;
+
+    /**
+     * Writes the declarations of each rule ordered by property name where the cascade allows it, which compresses
+     * better.
+     */
+    @Parameter(defaultValue = "false", property = "icss.canonical")
+    private boolean canonical;
+
+    /**
+     * Writes global variables with a literal value as CSS custom properties on :root, and uses them with var().
+     */
+    @Parameter(defaultValue = "false", property = "icss.customProperties")
+    private boolean customProperties;
+
+    /**
+     * Removes declarations that a later declaration overrides for every selector of their rule.
+     */
+    @Parameter(defaultValue = "false", property = "icss.removeOverridden")
+    private boolean removeOverridden;
+
+    /**
+     * Merges rules with the same declarations into the first of them, with a selector list.
+     */
+    @Parameter(defaultValue = "false", property = "icss.mergeRules")
+    private boolean mergeRules;
+
+    /**
+     * Also writes a gzip-compressed copy of every CSS file, with .gz added to the name.
+     */
+    @Parameter(defaultValue = "false", property = "icss.gzip")
+    private boolean gzip;
+
+    /**
+     * The deflate level of the gzip copies, from 1 (fastest) to 9 (smallest).
+     */
+    @Parameter(defaultValue = "9", property = "icss.gzipLevel")
+    private int gzipLevel;
+
+    @Parameter(defaultValue = "false", property = "icss.skip")
+    private boolean skip;
+
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    private MavenProject project;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (skip) {
+            getLog().info("Skipping ICSS compilation");
+            return;
+        }
+        try {
+            GzipCopyChannel.checkLevel(gzipLevel);
+        } catch (IllegalArgumentException e) {
+            throw new MojoExecutionException("Invalid icss.gzipLevel: " + e.getMessage(), e);
+        }
+        if (!sourceDirectory.isDirectory()) {
+            getLog().info("No ICSS sources in " + sourceDirectory);
+            return;
+        }
+        Path sourceRoot = sourceDirectory.toPath().toAbsolutePath().normalize();
+        Path outputRoot = outputDirectory.toPath().toAbsolutePath().normalize();
+
+        List<CompileResult> results;
+        BuildState state;
+        List<Path> stale = new ArrayList<>();
+        try {
+            String options = "minify=" + minify + ";canonical=" + canonical + ";customProperties=" + customProperties
+                    + ";removeOverridden=" + removeOverridden + ";mergeRules=" + mergeRules
+                    + ";gzip=" + gzip + ";gzipLevel=" + (gzip ? gzipLevel : 0);
+            state = new BuildState(outputRoot.resolveSibling(outputRoot.getFileName() + ".state"), options);
+            for (Path source : findSources(sourceRoot)) {
+                Path target = BatchCompiler.cssPathFor(sourceRoot, outputRoot, source);
+                if (!state.isUpToDate(source, target) || gzip && !Files.exists(BatchCompiler.gzipPathFor(target))) {
+                    stale.add(source);
+                }
+            }
+            if (stale.isEmpty()) {
+                getLog().info("ICSS output is up to date");
+                addResource(outputRoot);
+                return;
+            }
+            getLog().info("Compiling " + stale.size() + " ICSS file(s) to " + outputRoot);
+
+            int threadCount = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(threadCount, stale.size()));
+            try {
+                BatchCompiler compiler = new BatchCompiler(executor);
+                compiler.setMinified(minify);
+                compiler.setCanonical(canonical);
+                compiler.setCustomProperties(customProperties);
+                compiler.setRemoveOverridden(removeOverridden);
+                compiler.setMergeRules(mergeRules);
+                compiler.setGzip(gzip);
+                compiler.setGzipLevel(gzipLevel);
+                results = compiler
+                        .compile(stale, source -> BatchCompiler.cssPathFor(sourceRoot, outputRoot, source))
+                        .join();
+            } finally {
+                executor.shutdown();
+            }
+
+            for (CompileResult result : results) {
+                if (result.isSuccess()) {
+                    state.record(result.getSource(), result.getImports());
+                } else {
+                    state.forget(result.getSource());
+                }
+            }
+            state.save();
+        } catch (IOException e) {
+            throw new MojoExecutionException("Can not compile ICSS sources", e);
+        }
+
+        List<String> errors = new ArrayList<>();
+        for (CompileResult result : results) {
+            for (String error : result.getErrors()) {
+                errors.add(sourceRoot.relativize(result.getSource()) + ": " + error);
+            }
+        }
+        if (!errors.isEmpty()) {
+            for (String error : errors) {
+                getLog().error(error);
+            }
+            throw new MojoFailureException("ICSS compilation failed with " + errors.size() + " error(s)");
+        }
+        addResource(outputRoot);
+    }
+
+    private void addResource(Path outputRoot) {
+        Resource resource = new Resource();
+        resource.setDirectory(outputRoot.toString());
+        project.addResource(resource);
+    }
+
+    private static List<Path> findSources(Path root) throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(BatchCompiler::isIcssFile)
+                    .map(path -> path.toAbsolutePath().normalize())
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+}
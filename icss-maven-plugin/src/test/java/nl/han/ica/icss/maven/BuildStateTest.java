@@ -0,0 +1,53 @@
+package nl.han.ica.icss.maven;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+
+class BuildStateTest {
+
+	@Test
+	void testStaleWhenOptionsChange() throws IOException {
+
+		Path directory = Files.createTempDirectory("icss-state");
+		Path source = write(directory.resolve("a.icss"), "p { width: 1px; }");
+		Path target = write(directory.resolve("a.css"), "p{width:1px}");
+		Path stateFile = directory.resolve("state");
+
+		BuildState state = new BuildState(stateFile, "minify=false");
+		state.record(source, Collections.emptyList());
+		state.save();
+		assertTrue(new BuildState(stateFile, "minify=false").isUpToDate(source, target));
+		assertFalse(new BuildState(stateFile, "minify=true").isUpToDate(source, target));
+	}
+	@Test
+	void testTouchedSourceWithSameContents() throws IOException {
+
+		Path directory = Files.createTempDirectory("icss-state");
+		Path source = write(directory.resolve("a.icss"), "p { width: 1px; }");
+		Path target = write(directory.resolve("a.css"), "p{width:1px}");
+		Path stateFile = directory.resolve("state");
+		BuildState state = new BuildState(stateFile, "");
+		state.record(source, Collections.emptyList());
+
+		//Touched after the CSS was written, e.g. by a checkout: up to date, and the CSS is newer again afterwards
+		long written = System.currentTimeMillis() - 60_000;
+		Files.setLastModifiedTime(target, FileTime.fromMillis(written));
+		assertTrue(state.isUpToDate(source, target));
+		assertTrue(Files.getLastModifiedTime(target).toMillis() >= Files.getLastModifiedTime(source).toMillis());
+
+		write(source, "p { width: 2px; }");
+		Files.setLastModifiedTime(target, FileTime.fromMillis(written));
+		assertFalse(state.isUpToDate(source, target));
+	}
+
+	private static Path write(Path file, String text) throws IOException {
+		return Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -1,3 +0,0 @@
-package nl.han.ica.icss.ast;
-
-public abstract class Expression extends ASTNode { }
@@ -1,9 +0,0 @@
-package nl.han.ica.icss.ast.types;
-
-public enum ExpressionType {
-    PIXEL,
-    PERCENTAGE,
-    COLOR,
-    SCALAR,
-    UNDEFINED
-}
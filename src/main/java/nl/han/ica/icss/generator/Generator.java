@@ -1,10 +0,0 @@
-package nl.han.ica.icss.generator;
-
-import nl.han.ica.icss.ast.*;
-
-public class Generator {
-
-	public String generate(AST ast) {
-        return "";
-	}
-}
@@ -1,129 +0,0 @@
-package nl.han.ica.icss.parser;// Generated from /home/jamiel/Documents/projects/school/icss/src/main/antlr4/nl/han/ica/icss/parser/ICSS.g4 by ANTLR 4.7
-import org.antlr.v4.runtime.tree.ParseTreeListener;
-
-/**
- * This interface defines a complete listener for a parse tree produced by
- * {@link ICSSParser}.
- */
-public interface ICSSListener extends ParseTreeListener {
-	/**
-	 * Enter a parse tree produced by {@link ICSSParser#stylesheet}.
-	 * @param ctx the parse tree
-	 */
-	void enterStylesheet(ICSSParser.StylesheetContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link ICSSParser#stylesheet}.
-	 * @param ctx the parse tree
-	 */
-	void exitStylesheet(ICSSParser.StylesheetContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link ICSSParser#stylerule}.
-	 * @param ctx the parse tree
-	 */
-	void enterStylerule(ICSSParser.StyleruleContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link ICSSParser#stylerule}.
-	 * @param ctx the parse tree
-	 */
-	void exitStylerule(ICSSParser.StyleruleContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link ICSSParser#selector}.
-	 * @param ctx the parse tree
-	 */
-	void enterSelector(ICSSParser.SelectorContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link ICSSParser#selector}.
-	 * @param ctx the parse tree
-	 */
-	void exitSelector(ICSSParser.SelectorContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link ICSSParser#body}.
-	 * @param ctx the parse tree
-	 */
-	void enterBody(ICSSParser.BodyContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link ICSSParser#body}.
-	 * @param ctx the parse tree
-	 */
-	void exitBody(ICSSParser.BodyContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link ICSSParser#decleration}.
-	 * @param ctx the parse tree
-	 */
-	void enterDecleration(ICSSParser.DeclerationContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link ICSSParser#decleration}.
-	 * @param ctx the parse tree
-	 */
-	void exitDecleration(ICSSParser.DeclerationContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link ICSSParser#expression}.
-	 * @param ctx the parse tree
-	 */
-	void enterExpression(ICSSParser.ExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link ICSSParser#expression}.
-	 * @param ctx the parse tree
-	 */
-	void exitExpression(ICSSParser.ExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link ICSSParser#literal}.
-	 * @param ctx the parse tree
-	 */
-	void enterLiteral(ICSSParser.LiteralContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link ICSSParser#literal}.
-	 * @param ctx the parse tree
-	 */
-	void exitLiteral(ICSSParser.LiteralContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link ICSSParser#multiply}.
-	 * @param ctx the parse tree
-	 */
-	void enterMultiply(ICSSParser.MultiplyContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link ICSSParser#multiply}.
-	 * @param ctx the parse tree
-	 */
-	void exitMultiply(ICSSParser.MultiplyContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link ICSSParser#operator}.
-	 * @param ctx the parse tree
-	 */
-	void enterOperator(ICSSParser.OperatorContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link ICSSParser#operator}.
-	 * @param ctx the parse tree
-	 */
-	void exitOperator(ICSSParser.OperatorContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link ICSSParser#variableAssignment}.
-	 * @param ctx the parse tree
-	 */
-	void enterVariableAssignment(ICSSParser.VariableAssignmentContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link ICSSParser#variableAssignment}.
-	 * @param ctx the parse tree
-	 */
-	void exitVariableAssignment(ICSSParser.VariableAssignmentContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link ICSSParser#variableName}.
-	 * @param ctx the parse tree
-	 */
-	void enterVariableName(ICSSParser.VariableNameContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link ICSSParser#variableName}.
-	 * @param ctx the parse tree
-	 */
-	void exitVariableName(ICSSParser.VariableNameContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link ICSSParser#propertyName}.
-	 * @param ctx the parse tree
-	 */
-	void enterPropertyName(ICSSParser.PropertyNameContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link ICSSParser#propertyName}.
-	 * @param ctx the parse tree
-	 */
-	void exitPropertyName(ICSSParser.PropertyNameContext ctx);
-}
\ No newline at end of file
@@ -1,10 +0,0 @@
-package nl.han.ica.icss.transforms;
-
-import nl.han.ica.icss.ast.*;
-
-public class RemoveNesting implements Transform {
-
-    @Override
-    public void apply(AST ast) {
-    }
-}